@@ -1,5 +1,6 @@
 
 
+import annotation.MEntity;
 import auto_ddl.AutoDDLPolicy;
 import com.google.auto.service.AutoService;
 import config.AppConfig;
@@ -17,17 +18,25 @@ import utils.LogPrinter;
 
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
 @AutoService(Processor.class)
-@SupportedOptions({ "url", "username", "password", "dbType", "auto", "projectDir" })
-@SupportedAnnotationTypes({ "annotation.MEntity", "annotation.MColumn" })
+@SupportedOptions({ "url", "username", "password", "dbType", "auto", "projectDir", "schemaDiff", "onlineDdl", "alignColumns", "uuidBinary", "ddlParallelism", "ddlBatchSize", "atomicDdl" })
+@SupportedAnnotationTypes({ "annotation.MEntity" })
 public class MDDLProcessor extends AbstractProcessor {
 
+    // --- 라운드를 넘어 유지되는 프로세서 상태 ---
+    // 다른 프로세서가 이후 라운드에서 엔티티를 생성할 수 있으므로,
+    // 라운드마다 스캔만 누적하고 DDL/XML/Executor 생성은 processingOver 시점에 한 번만 수행합니다.
+    private AutoDDLPolicy policy;
+    private AnnotationMetadataLoader metadataLoader;
+    private final Set<Element> entityElements = new LinkedHashSet<>();
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latestSupported();
@@ -35,68 +44,105 @@ public class MDDLProcessor extends AbstractProcessor {
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        // 어노테이션이 없으면 처리 안 함
-        if (annotations.isEmpty()) {
-            return false;
-        }
-
         try {
-            // 1. Gradle이 주입한 옵션 가져오기 (파일 읽기 X, 오직 주입된 값만 신뢰)
-            Map<String, String> options = processingEnv.getOptions();
-
-
-            LogPrinter.init(processingEnv); //콘솔 찍기용
-
-            // 2. Policy 파싱 (대소문자 무시 처리)
-            String autoStr = options.getOrDefault("auto", "DISABLED").toUpperCase();
-            AutoDDLPolicy policy;
-            try {
-                policy = AutoDDLPolicy.valueOf(autoStr);
-            } catch (IllegalArgumentException e) {
-                // 오타가 있거나 값이 이상하면 DISABLED 처리
-                policy = AutoDDLPolicy.DISABLED;
-                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
-                        "⚠️ [JPM] 알 수 없는 auto 모드입니다 ('" + autoStr + "'). DISABLED로 설정합니다.");
+            // 마지막 라운드: 누적된 엔티티로 한 번만 생성
+            if (roundEnv.processingOver()) {
+                if (metadataLoader != null && !entityElements.isEmpty()) {
+                    generate();
+                }
+                return false;
             }
 
-            // 3. DISABLED 상태면 즉시 종료 (로그만 남김)
-            if (policy == AutoDDLPolicy.DISABLED) {
-                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
-                        "💤 [JPM] DDL Generator is DISABLED. (Skipping execution)");
+            // 어노테이션이 없으면 처리 안 함
+            if (annotations.isEmpty()) {
+                return false;
+            }
+
+            // DISABLED 상태면 스캔하지 않음 (로그는 최초 1회만)
+            if (!prepare()) {
                 return true;
             }
 
-            // 4. 실행 정보 로그 출력
-            String dbType = options.getOrDefault("dbType", "MYSQL").toUpperCase();
-            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
-                    "🚀 [JPM] Start DDL Generation! (Policy: " + policy + ", DB: " + dbType + ")");
+            // 이번 라운드의 엔티티 스캔 결과를 누적
+            metadataLoader.scan(roundEnv);
+            entityElements.addAll(roundEnv.getElementsAnnotatedWith(MEntity.class));
 
+        } catch (Exception e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "❌ [JPM] DDL 생성 중 오류 발생: " + e.getMessage());
 
-            // 5. 컴포넌트 준비
-            MetadataLoader metadataLoader = new AnnotationMetadataLoader(processingEnv, roundEnv);
+        }
 
-            // DB 타입에 따른 방언 설정
-            AppConfig.sqlDialectInit(options);
+        return true;
+    }
 
-            DdlWriter ddlWriter = new MyBatisXmlWriter(processingEnv.getFiler(), "m_ddl_generator.ddl.AutoDDL");
+    /**
+     * 최초 라운드에서 한 번만 정책/방언/로더를 준비합니다.
+     * @return DDL 생성이 활성화되어 있으면 true
+     */
+    private boolean prepare() {
+        if (policy != null) {
+            return policy != AutoDDLPolicy.DISABLED;
+        }
 
-            // 6. Generator 생성 및 실행
-            AutoDDLGenerator generator = new AutoDDLGenerator(
-                    metadataLoader,
-                    ddlWriter,
-                    processingEnv,
-                    new JpmExecutorSourceWriter(processingEnv),
-                    options // 전체 옵션 전달 (url, username, password 포함됨)
-            );
+        // 1. Gradle이 주입한 옵션 가져오기 (파일 읽기 X, 오직 주입된 값만 신뢰)
+        Map<String, String> options = processingEnv.getOptions();
 
-            generator.generate();
 
-        } catch (Exception e) {
-            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
-                    "❌ [JPM] DDL 생성 중 오류 발생: " + e.getMessage());
+        LogPrinter.init(processingEnv); //콘솔 찍기용
+
+        // 2. Policy 파싱 (대소문자 무시 처리)
+        String autoStr = options.getOrDefault("auto", "DISABLED").toUpperCase();
+        try {
+            policy = AutoDDLPolicy.valueOf(autoStr);
+        } catch (IllegalArgumentException e) {
+            // 오타가 있거나 값이 이상하면 DISABLED 처리
+            policy = AutoDDLPolicy.DISABLED;
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "⚠️ [JPM] 알 수 없는 auto 모드입니다 ('" + autoStr + "'). DISABLED로 설정합니다.");
+        }
 
+        // 3. DISABLED 상태면 즉시 종료 (로그만 남김)
+        if (policy == AutoDDLPolicy.DISABLED) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "💤 [JPM] DDL Generator is DISABLED. (Skipping execution)");
+            return false;
         }
 
+        // DB 타입에 따른 방언 설정
+        AppConfig.sqlDialectInit(options);
+
+        metadataLoader = new AnnotationMetadataLoader(processingEnv);
         return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * 모든 라운드가 끝난 뒤 누적된 엔티티로 DDL 빌드, XML 기록, Executor 생성을 한 번만 수행합니다.
+     */
+    private void generate() {
+        Map<String, String> options = processingEnv.getOptions();
+
+        // 4. 실행 정보 로그 출력
+        String dbType = options.getOrDefault("dbType", "MYSQL").toUpperCase();
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "🚀 [JPM] Start DDL Generation! (Policy: " + policy + ", DB: " + dbType + ")");
+
+
+        // 5. 컴포넌트 준비
+        // 생성 파일마다 원본 엔티티를 originating element로 넘김 (Filer가 생성 파일과 엔티티를 연결)
+        Element[] originatingElements = entityElements.toArray(new Element[0]);
+
+        DdlWriter ddlWriter = new MyBatisXmlWriter(processingEnv.getFiler(), "m_ddl_generator.ddl.AutoDDL", originatingElements);
+
+        // 6. Generator 생성 및 실행
+        AutoDDLGenerator generator = new AutoDDLGenerator(
+                metadataLoader,
+                ddlWriter,
+                processingEnv,
+                new JpmExecutorSourceWriter(processingEnv, originatingElements),
+                options // 전체 옵션 전달 (url, username, password 포함됨)
+        );
+
+        generator.generate();
+    }
+}
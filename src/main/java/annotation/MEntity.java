@@ -9,4 +9,14 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface MEntity {
     String name();
+
+    // 복합/커버링 인덱스 (단일 컬럼 인덱스는 MField의 index/unique로 선언)
+    MIndex[] indexes() default {};
+
+    // 테이블 파티셔닝 (기본값은 파티셔닝 안 함)
+    MPartition partition() default @MPartition(type = PartitionType.NONE, column = "");
+
+    // 저장 옵션 (fillfactor, autovacuum, InnoDB 행 형식/압축)
+    // rowFormat을 명시하지 않으면 javac가 중첩 기본값의 enum을 읽지 못함 (AnnotationTypeMismatchException)
+    MStorage storage() default @MStorage(rowFormat = RowFormat.DEFAULT);
 }
@@ -0,0 +1,28 @@
+package annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 컬럼으로 이루어진 인덱스 선언 (@MEntity(indexes = ...) 안에서만 사용)
+ *
+ * 예) @MEntity(name = "orders", indexes = {
+ *         @MIndex(columns = {"tenant_id", "created_at DESC"}, include = {"status"})
+ *     })
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MIndex {
+
+    // 인덱스명 (비어있으면 idx_테이블_컬럼1_컬럼2...)
+    String name() default "";
+
+    // 인덱스 키 컬럼 (순서대로, 정렬 방향은 "created_at DESC" 처럼 뒤에 붙임)
+    String[] columns();
+
+    boolean unique() default false;
+
+    // 커버링 인덱스에 키가 아닌 값으로만 포함할 컬럼 (PostgreSQL INCLUDE)
+    String[] include() default {};
+}
@@ -0,0 +1,32 @@
+package annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테이블 파티셔닝 선언 (@MEntity(partition = ...) 안에서만 사용)
+ *
+ * 예) @MEntity(name = "events", partition = @MPartition(type = PartitionType.RANGE, column = "created_at",
+ *         partitions = {
+ *             @MPartitionBound(name = "p2024", values = "'2025-01-01'"),
+ *             @MPartitionBound(name = "pmax", values = "MAXVALUE")
+ *         }))
+ *
+ * PK(와 UNIQUE 인덱스)는 파티션 키 컬럼을 포함해야 합니다.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MPartition {
+
+    PartitionType type();
+
+    // 파티션 키 컬럼
+    String column();
+
+    // RANGE / LIST 파티션 목록
+    MPartitionBound[] partitions() default {};
+
+    // HASH 파티션 개수
+    int count() default 0;
+}
@@ -0,0 +1,20 @@
+package annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 파티션 하나 (@MPartition(partitions = ...) 안에서만 사용)
+ * 값은 SQL 리터럴 그대로 적습니다. 예) "'2025-01-01'", "10", "MAXVALUE"
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MPartitionBound {
+
+    String name();
+
+    // RANGE: 상한 값 하나 (이 값 미만, 파티션은 상한 오름차순으로 선언)
+    // LIST: 이 파티션에 들어갈 값들
+    String[] values();
+}
@@ -0,0 +1,39 @@
+package annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테이블 저장 옵션 (@MEntity(storage = ...) 안에서만 사용)
+ *
+ * 예) @MEntity(name = "orders", storage = @MStorage(fillfactor = 80, autovacuumVacuumScaleFactor = 0.05))
+ *     @MEntity(name = "audit_log", storage = @MStorage(rowFormat = RowFormat.COMPRESSED, keyBlockSize = 8))
+ *
+ * 현재 DB에 없는 옵션은 경고 후 무시합니다. (fillfactor/autovacuum은 PostgreSQL, rowFormat/keyBlockSize는 MySQL)
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MStorage {
+
+    // --- PostgreSQL 저장 파라미터 (0 또는 음수면 서버 기본값) ---
+
+    // 페이지 채움 비율 10~100 (갱신이 많은 테이블은 80 정도로 낮추면 같은 페이지 안에서 HOT 업데이트 가능)
+    int fillfactor() default 0;
+
+    // autovacuum_vacuum_scale_factor (큰 테이블은 0.01~0.05 정도로 낮춰서 자주 정리)
+    double autovacuumVacuumScaleFactor() default -1.0;
+
+    // autovacuum_analyze_scale_factor
+    double autovacuumAnalyzeScaleFactor() default -1.0;
+
+    // autovacuum_vacuum_threshold
+    int autovacuumVacuumThreshold() default -1;
+
+    // --- MySQL InnoDB 테이블 옵션 ---
+
+    RowFormat rowFormat() default RowFormat.DEFAULT;
+
+    // 압축 페이지 크기(KB): 1, 2, 4, 8, 16 (COMPRESSED 행 형식에서만 사용)
+    int keyBlockSize() default 0;
+}
@@ -0,0 +1,8 @@
+package annotation;
+
+public enum PartitionType {
+    NONE,   // 파티셔닝 안 함 (기본값)
+    RANGE,  // 값 범위 (시간순으로 쌓이는 테이블, 오래된 파티션 단위 삭제)
+    LIST,   // 값 목록 (테넌트, 지역 등)
+    HASH    // 해시 분산 (파티션 개수만 지정)
+}
@@ -0,0 +1,9 @@
+package annotation;
+
+public enum RowFormat {
+    DEFAULT,    // 서버 기본값 (innodb_default_row_format, 보통 DYNAMIC)
+    DYNAMIC,
+    COMPACT,
+    REDUNDANT,
+    COMPRESSED  // 페이지 압축 (KEY_BLOCK_SIZE와 함께, 잘 읽히지 않는 큰 테이블용)
+}
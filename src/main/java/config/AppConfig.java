@@ -18,13 +18,20 @@ public class AppConfig {
 
 
     public static void sqlDialectInit(Map<String, String> options) {
+        // onlineDdl=true: 운영 중인 테이블에 쓰기를 막지 않는 형태로 DDL 생성
+        boolean online = Boolean.parseBoolean(options.getOrDefault("onlineDdl", "false").trim());
+        // alignColumns=true: PostgreSQL CREATE TABLE 컬럼을 정렬 패딩이 최소가 되는 순서로 (MySQL은 패딩이 없어 무시)
+        boolean alignColumns = Boolean.parseBoolean(options.getOrDefault("alignColumns", "false").trim());
+        // uuidBinary=true: MySQL UUID_V_7 컬럼을 CHAR(36) 대신 BINARY(16)으로 (PostgreSQL은 원래 16바이트 uuid)
+        boolean uuidBinary = Boolean.parseBoolean(options.getOrDefault("uuidBinary", "false").trim());
+
         if(options.get("dbType").equals("MYSQL") )
         {
-            sqlDialect = new MySqlDialect();
+            sqlDialect = new MySqlDialect(online, uuidBinary);
         }
         else
         {
-            sqlDialect = new PostgreSqlDialect();
+            sqlDialect = new PostgreSqlDialect(online, alignColumns);
         }
     }
     public  static SqlDialect getSqlDialectImpl()
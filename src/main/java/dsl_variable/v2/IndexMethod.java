@@ -0,0 +1,13 @@
+package dsl_variable.v2;
+
+/**
+ * 인덱스 접근 방식 (MField.builder().indexMethod(IndexMethod.GIN))
+ * 방언이 지원하지 않는 방식은 컴파일 시점에 오류로 보고됩니다.
+ */
+public enum IndexMethod {
+    BTREE,  // 기본값: 범위/정렬/동등 비교
+    GIN,    // JSONB 포함(@>), 배열, 전문 검색 (PostgreSQL) / JSON 스칼라 배열의 multi-valued 인덱스 (MySQL)
+    GIST,   // 범위 타입, 기하, 근접 검색 (PostgreSQL)
+    BRIN,   // 삽입 순서와 값이 같이 증가하는 대용량 테이블 (PostgreSQL, 블록 범위 요약이라 매우 작음)
+    HASH    // 동등 비교 전용 (PostgreSQL)
+}
@@ -0,0 +1,390 @@
+package dsl_variable.v2;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import com.github.javaparser.resolution.declarations.ResolvedFieldDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedValueDeclaration;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserFieldDeclaration;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.sun.source.tree.BinaryTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.UnaryTree;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * DSL 인자로 쓰인 상수와 간단한 식을 값으로 접습니다. (.length(Limits.NAME_LEN), .defaultValue(Defaults.STATUS))
+ * 빌드마다 하나만 만들어 모든 엔티티가 공유합니다.
+ *
+ * - javac 트리: 이름을 import/패키지 기준으로 Element로 찾고 VariableElement.getConstantValue()를 사용
+ * - JavaParser: CombinedTypeSolver(JDK 리플렉션 + 소스 루트)로 필드를 찾아 초기화 식을 접음
+ *   (솔버는 상수가 처음 필요할 때 한 번만 만들고, 해석한 필드 값은 "타입.필드" 키로 기억해 둡니다.)
+ * 지원하는 식: 리터럴, static final 필드, 괄호, 단항(- + !), 이항(+ - * / % && ||)
+ */
+public class MConstantResolver {
+
+    private final Elements elements; // javac 이외의 환경이면 null
+    private final File sourceRoot;
+
+    // "패키지.타입.필드" -> 접은 값 (접을 수 없는 필드는 Optional.empty())
+    private final Map<String, Optional<Object>> fieldValues = new HashMap<>();
+
+    private JavaSymbolSolver symbolSolver;
+
+    public MConstantResolver(Elements elements, File sourceRoot) {
+        this.elements = elements;
+        this.sourceRoot = sourceRoot;
+    }
+
+    // --- javac 트리 ---
+
+    /**
+     * @param owner 식이 쓰인 엔티티 클래스 (같은 클래스의 상수 / 중첩 타입 탐색용)
+     * @return 접은 값, 상수가 아니면 null
+     */
+    public Object resolve(ExpressionTree expr, TypeElement owner, CompilationUnitTree unit) {
+        if (expr instanceof LiteralTree) {
+            return ((LiteralTree) expr).getValue();
+        }
+        if (expr instanceof ParenthesizedTree) {
+            return resolve(((ParenthesizedTree) expr).getExpression(), owner, unit);
+        }
+        if (expr instanceof UnaryTree) {
+            return unary(operator(expr.getKind()), resolve(((UnaryTree) expr).getExpression(), owner, unit));
+        }
+        if (expr instanceof BinaryTree) {
+            BinaryTree binary = (BinaryTree) expr;
+            return binary(operator(expr.getKind()),
+                    resolve(binary.getLeftOperand(), owner, unit),
+                    resolve(binary.getRightOperand(), owner, unit));
+        }
+        if (elements == null) return null;
+
+        if (expr instanceof IdentifierTree) {
+            // 같은 클래스(상속 포함)의 상수 -> static import 순서로 탐색
+            String name = ((IdentifierTree) expr).getName().toString();
+            Object value = constantOf(owner, name);
+            if (value != null) return value;
+
+            for (ImportTree imp : unit.getImports()) {
+                if (!imp.isStatic() || !(imp.getQualifiedIdentifier() instanceof MemberSelectTree)) continue;
+                MemberSelectTree select = (MemberSelectTree) imp.getQualifiedIdentifier();
+                String member = select.getIdentifier().toString();
+                if (member.equals(name) || member.equals("*")) {
+                    value = constantOf(elements.getTypeElement(select.getExpression().toString()), name);
+                    if (value != null) return value;
+                }
+            }
+            return null;
+        }
+        if (expr instanceof MemberSelectTree) {
+            MemberSelectTree select = (MemberSelectTree) expr;
+            return constantOf(resolveType(select.getExpression(), owner, unit), select.getIdentifier().toString());
+        }
+        return null;
+    }
+
+    // 타입 이름(Limits, a.b.Limits, Outer.Inner)을 TypeElement로 찾음
+    private TypeElement resolveType(ExpressionTree expr, TypeElement owner, CompilationUnitTree unit) {
+        if (expr instanceof MemberSelectTree) {
+            TypeElement qualified = elements.getTypeElement(expr.toString());
+            if (qualified != null) return qualified;
+
+            MemberSelectTree select = (MemberSelectTree) expr;
+            return memberType(resolveType(select.getExpression(), owner, unit), select.getIdentifier().toString());
+        }
+        if (!(expr instanceof IdentifierTree)) return null;
+
+        String name = ((IdentifierTree) expr).getName().toString();
+
+        // 1. 엔티티 자신 또는 바깥 클래스의 중첩 타입
+        for (Element e = owner; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getSimpleName().contentEquals(name)) return (TypeElement) e;
+            TypeElement nested = memberType((TypeElement) e, name);
+            if (nested != null) return nested;
+        }
+
+        // 2. 단일 타입 import
+        for (ImportTree imp : unit.getImports()) {
+            String imported = imp.getQualifiedIdentifier().toString();
+            if (!imp.isStatic() && imported.endsWith("." + name)) {
+                TypeElement type = elements.getTypeElement(imported);
+                if (type != null) return type;
+            }
+        }
+
+        // 3. 같은 패키지
+        String pkg = elements.getPackageOf(owner).getQualifiedName().toString();
+        TypeElement type = elements.getTypeElement(pkg.isEmpty() ? name : pkg + "." + name);
+        if (type != null) return type;
+
+        // 4. 주문형 import (a.b.*) -> java.lang
+        for (ImportTree imp : unit.getImports()) {
+            String imported = imp.getQualifiedIdentifier().toString();
+            if (!imp.isStatic() && imported.endsWith(".*")) {
+                type = elements.getTypeElement(imported.substring(0, imported.length() - 1) + name);
+                if (type != null) return type;
+            }
+        }
+        return elements.getTypeElement("java.lang." + name);
+    }
+
+    private static TypeElement memberType(TypeElement type, String name) {
+        if (type == null) return null;
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            if (nested.getSimpleName().contentEquals(name)) return nested;
+        }
+        return null;
+    }
+
+    // javac가 계산해 둔 컴파일 타임 상수 값 (static final + 상수 초기화 식일 때만 존재)
+    private Object constantOf(TypeElement type, String fieldName) {
+        if (type == null) return null;
+        for (VariableElement field : ElementFilter.fieldsIn(elements.getAllMembers(type))) {
+            if (field.getSimpleName().contentEquals(fieldName)) {
+                return field.getConstantValue();
+            }
+        }
+        return null;
+    }
+
+    private static String operator(Tree.Kind kind) {
+        switch (kind) {
+            case UNARY_MINUS: case MINUS: return "-";
+            case UNARY_PLUS: case PLUS: return "+";
+            case LOGICAL_COMPLEMENT: return "!";
+            case MULTIPLY: return "*";
+            case DIVIDE: return "/";
+            case REMAINDER: return "%";
+            case CONDITIONAL_AND: return "&&";
+            case CONDITIONAL_OR: return "||";
+            default: return null;
+        }
+    }
+
+    // --- JavaParser ---
+
+    /**
+     * 식이 CompilationUnit 안에 있어야 import 기준으로 이름을 찾을 수 있습니다. (MParserUtils는 항상 파일 전체를 파싱)
+     * @return 접은 값, 상수가 아니면 null
+     */
+    public Object resolve(Expression expr) {
+        return fold(expr, new HashSet<>());
+    }
+
+    private Object fold(Expression expr, Set<String> visiting) {
+        if (expr.isIntegerLiteralExpr()) return expr.asIntegerLiteralExpr().asNumber();
+        if (expr.isLongLiteralExpr()) return expr.asLongLiteralExpr().asNumber();
+        if (expr.isBooleanLiteralExpr()) return expr.asBooleanLiteralExpr().getValue();
+        if (expr.isStringLiteralExpr()) return expr.asStringLiteralExpr().asString();
+        if (expr.isCharLiteralExpr()) return expr.asCharLiteralExpr().asChar();
+        if (expr.isDoubleLiteralExpr()) return expr.asDoubleLiteralExpr().asDouble();
+        if (expr.isEnclosedExpr()) return fold(expr.asEnclosedExpr().getInner(), visiting);
+
+        if (expr.isUnaryExpr()) {
+            UnaryExpr unary = expr.asUnaryExpr();
+            return unary(operator(unary.getOperator()), fold(unary.getExpression(), visiting));
+        }
+        if (expr.isBinaryExpr()) {
+            BinaryExpr binary = expr.asBinaryExpr();
+            return binary(operator(binary.getOperator()),
+                    fold(binary.getLeft(), visiting),
+                    fold(binary.getRight(), visiting));
+        }
+        if (expr.isNameExpr() || expr.isFieldAccessExpr()) {
+            return foldField(expr, visiting);
+        }
+        return null;
+    }
+
+    private Object foldField(Expression expr, Set<String> visiting) {
+        Optional<CompilationUnit> cu = expr.findCompilationUnit();
+        if (!cu.isPresent()) return null;
+        if (!cu.get().containsData(Node.SYMBOL_RESOLVER_KEY)) {
+            cu.get().setData(Node.SYMBOL_RESOLVER_KEY, symbolSolver());
+        }
+
+        ResolvedFieldDeclaration field;
+        try {
+            ResolvedValueDeclaration decl = expr.isNameExpr() ? expr.asNameExpr().resolve() : expr.asFieldAccessExpr().resolve();
+            if (!decl.isField() || !decl.asField().isStatic()) return null;
+            field = decl.asField();
+        } catch (RuntimeException e) {
+            // 해석 실패 (UnsolvedSymbolException 등) -> 상수 아님
+            return null;
+        }
+
+        String owner = field.declaringType().getQualifiedName();
+        String key = owner + "." + field.getName();
+
+        Optional<Object> cached = fieldValues.get(key);
+        if (cached != null) return cached.orElse(null);
+        if (!visiting.add(key)) return null; // A = B, B = A 같은 순환
+
+        Object value = field instanceof JavaParserFieldDeclaration
+                ? sourceValue((JavaParserFieldDeclaration) field, visiting)
+                : reflectionValue(owner, field.getName());
+
+        fieldValues.put(key, Optional.ofNullable(value));
+        return value;
+    }
+
+    // 소스에 있는 필드: final이면 초기화 식을 다시 접음 (인터페이스 필드는 암묵적 final)
+    private Object sourceValue(JavaParserFieldDeclaration field, Set<String> visiting) {
+        FieldDeclaration declaration = field.getWrappedNode();
+        boolean inInterface = declaration.getParentNode()
+                .filter(p -> p instanceof ClassOrInterfaceDeclaration && ((ClassOrInterfaceDeclaration) p).isInterface())
+                .isPresent();
+        if (!declaration.isFinal() && !inInterface) return null;
+
+        VariableDeclarator variable = field.getVariableDeclarator();
+        return variable.getInitializer()
+                .map(init -> fold(init, visiting))
+                .orElse(null);
+    }
+
+    // JDK 등 클래스 파일로만 있는 필드 (Integer.MAX_VALUE)
+    private static Object reflectionValue(String owner, String fieldName) {
+        try {
+            Field field = Class.forName(owner, false, MConstantResolver.class.getClassLoader()).getField(fieldName);
+            int modifiers = field.getModifiers();
+            if (!Modifier.isStatic(modifiers) || !Modifier.isFinal(modifiers)) return null;
+            Object value = field.get(null);
+            return value instanceof Number || value instanceof String || value instanceof Boolean || value instanceof Character
+                    ? value : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    // 상수가 처음 필요할 때 한 번만 생성 (소스 루트 인덱스는 솔버 안에서 재사용됨)
+    private JavaSymbolSolver symbolSolver() {
+        if (symbolSolver == null) {
+            symbolSolver = new JavaSymbolSolver(new CombinedTypeSolver(
+                    new ReflectionTypeSolver(),
+                    new JavaParserTypeSolver(sourceRoot)));
+        }
+        return symbolSolver;
+    }
+
+    private static String operator(UnaryExpr.Operator op) {
+        switch (op) {
+            case MINUS: return "-";
+            case PLUS: return "+";
+            case LOGICAL_COMPLEMENT: return "!";
+            default: return null;
+        }
+    }
+
+    private static String operator(BinaryExpr.Operator op) {
+        switch (op) {
+            case PLUS: return "+";
+            case MINUS: return "-";
+            case MULTIPLY: return "*";
+            case DIVIDE: return "/";
+            case REMAINDER: return "%";
+            case AND: return "&&";
+            case OR: return "||";
+            default: return null;
+        }
+    }
+
+    // --- 공통 연산 ---
+
+    private static Object unary(String op, Object value) {
+        if (op == null || value == null) return null;
+        if (op.equals("!")) return value instanceof Boolean ? !(Boolean) value : null;
+        if (!isIntegral(value)) return null;
+        long v = ((Number) toNumber(value)).longValue();
+        return narrow(op.equals("-") ? -v : v, value instanceof Long);
+    }
+
+    private static Object binary(String op, Object left, Object right) {
+        if (op == null || left == null || right == null) return null;
+
+        if (op.equals("+") && (left instanceof String || right instanceof String)) {
+            return String.valueOf(left) + right;
+        }
+        if (op.equals("&&") || op.equals("||")) {
+            if (!(left instanceof Boolean) || !(right instanceof Boolean)) return null;
+            return op.equals("&&") ? (Boolean) left && (Boolean) right : (Boolean) left || (Boolean) right;
+        }
+        if (!isIntegral(left) || !isIntegral(right)) return null;
+
+        long l = ((Number) toNumber(left)).longValue();
+        long r = ((Number) toNumber(right)).longValue();
+        boolean isLong = left instanceof Long || right instanceof Long;
+        switch (op) {
+            case "+": return narrow(l + r, isLong);
+            case "-": return narrow(l - r, isLong);
+            case "*": return narrow(l * r, isLong);
+            case "/": return r == 0 ? null : narrow(l / r, isLong);
+            case "%": return r == 0 ? null : narrow(l % r, isLong);
+            default: return null;
+        }
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte || value instanceof Character;
+    }
+
+    private static Object toNumber(Object value) {
+        return value instanceof Character ? (int) (Character) value : value;
+    }
+
+    // Java와 같이 int 연산은 int로 넘침
+    private static Object narrow(long value, boolean isLong) {
+        return isLong ? (Object) value : (Object) (int) value;
+    }
+
+    /**
+     * 접은 값을 DSL 메서드가 기대하는 타입으로 맞춥니다. 맞출 수 없으면 null.
+     */
+    public static Object coerce(MFieldMethod.ArgKind kind, Object value) {
+        if (value == null) return null;
+        switch (kind) {
+            case BOOLEAN:
+                return value instanceof Boolean ? value : null;
+            case INT:
+                if (value instanceof Long) {
+                    long v = (Long) value;
+                    return v == (int) v ? (Object) (int) v : null;
+                }
+                return isIntegral(value) ? ((Number) toNumber(value)).intValue() : null;
+            case STRING:
+                // defaultValue(Defaults.STATUS) 처럼 숫자 상수도 SQL 기본값 텍스트로 사용
+                return String.valueOf(value);
+            default:
+                return null;
+        }
+    }
+}
@@ -16,6 +16,8 @@ public class MField {
     // 🔥 [추가] 인덱스 관련 필드
     private final boolean index;  // 일반 인덱스 여부
     private final boolean unique; // 유니크 인덱스 여부
+    private final IndexMethod indexMethod; // 인덱스 접근 방식 (null이면 DB 기본값 B-tree)
+    private final String indexOpClass;     // 연산자 클래스 (예: jsonb_path_ops)
 
     // --- 2. 생성자 ---
     private MField(Builder builder) {
@@ -32,6 +34,8 @@ public class MField {
         // 🔥 [추가] 빌더에서 값 할당
         this.index = builder.index;
         this.unique = builder.unique;
+        this.indexMethod = builder.indexMethod;
+        this.indexOpClass = builder.indexOpClass;
     }
 
     public static Builder builder() {
@@ -52,6 +56,8 @@ public class MField {
     // 🔥 [추가] Getter
     public boolean isIndex() { return index; }
     public boolean isUnique() { return unique; }
+    public IndexMethod getIndexMethod() { return indexMethod; }
+    public String getIndexOpClass() { return indexOpClass; }
 
 
     // --- Builder Class ---
@@ -70,6 +76,8 @@ public class MField {
         // 🔥 [추가] 기본값 false
         private boolean index = false;
         private boolean unique = false;
+        private IndexMethod indexMethod = null;
+        private String indexOpClass = null;
 
         public Builder type(MFieldType type) { this.type = type; return this; }
         public Builder name(String name) { this.name = name; return this; }
@@ -104,6 +112,18 @@ public class MField {
             return this;
         }
 
+        // 인덱스 접근 방식 지정 (인덱스 생성도 같이 켬)
+        public Builder indexMethod(IndexMethod val) {
+            this.indexMethod = val;
+            if (val != null) this.index = true;
+            return this;
+        }
+
+        public Builder indexOpClass(String val) {
+            this.indexOpClass = val;
+            return this;
+        }
+
         public MField build() {
             return new MField(this);
         }
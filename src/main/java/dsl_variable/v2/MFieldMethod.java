@@ -0,0 +1,135 @@
+package dsl_variable.v2;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MField.builder() 체인에서 인식하는 DSL 메서드 목록.
+ * 파서(JavaParser / javac 트리)는 메서드명을 이 enum으로 바꾼 뒤,
+ * 인자를 ArgKind에 맞는 타입(Boolean, Integer, String, enum)으로 꺼내 바로 Builder에 적용합니다.
+ */
+public enum MFieldMethod {
+    BUILDER("builder", ArgKind.NONE),
+    BUILD("build", ArgKind.NONE),
+
+    NAME("name", ArgKind.STRING),
+    TYPE("type", ArgKind.FIELD_TYPE),
+    PRIMARY_KEY("primaryKey", ArgKind.BOOLEAN),
+    AUTO_INCREMENT("autoIncrement", ArgKind.BOOLEAN),
+    NULLABLE("nullable", ArgKind.BOOLEAN),
+    DEFAULT_VALUE("defaultValue", ArgKind.STRING),
+    LENGTH("length", ArgKind.INT),
+    PARENT("parent", ArgKind.CLASS_NAME),
+    ON_DELETE("onDelete", ArgKind.ON_DELETE),
+    INDEX("index", ArgKind.BOOLEAN),
+    UNIQUE("unique", ArgKind.BOOLEAN),
+    INDEX_METHOD("indexMethod", ArgKind.INDEX_METHOD),
+    INDEX_OP_CLASS("indexOpClass", ArgKind.STRING);
+
+    /**
+     * DSL 메서드 인자의 종류
+     */
+    public enum ArgKind {
+        NONE,       // builder(), build()
+        BOOLEAN,    // true / false
+        INT,        // 정수 리터럴
+        STRING,     // 문자열
+        CLASS_NAME, // UserEntity.class -> "UserEntity"
+        FIELD_TYPE, // MFieldType.LONG
+        ON_DELETE,  // OnDeleteType.CASCADE
+        INDEX_METHOD // IndexMethod.GIN
+    }
+
+    private static final Map<String, MFieldMethod> BY_NAME = new HashMap<>();
+
+    static {
+        for (MFieldMethod method : values()) {
+            BY_NAME.put(method.methodName, method);
+        }
+    }
+
+    private final String methodName;
+    private final ArgKind argKind;
+
+    MFieldMethod(String methodName, ArgKind argKind) {
+        this.methodName = methodName;
+        this.argKind = argKind;
+    }
+
+    public String getMethodName() { return methodName; }
+    public ArgKind getArgKind() { return argKind; }
+
+    /**
+     * 메서드명으로 DSL 메서드를 찾습니다. 모르는 메서드면 null.
+     */
+    public static MFieldMethod find(String methodName) {
+        return BY_NAME.get(methodName);
+    }
+
+    /**
+     * enum 상수 이름(MFieldType.LONG -> "LONG")을 ArgKind에 맞는 enum 값으로 변환합니다.
+     * @throws IllegalArgumentException 존재하지 않는 상수일 때
+     */
+    public Object enumValue(String constantName) {
+        switch (argKind) {
+            case FIELD_TYPE:
+                return MFieldType.valueOf(constantName);
+            case ON_DELETE:
+                return OnDeleteType.valueOf(constantName);
+            case INDEX_METHOD:
+                return IndexMethod.valueOf(constantName);
+            default:
+                throw new IllegalArgumentException(methodName + "() does not take an enum argument");
+        }
+    }
+
+    /**
+     * 이미 타입이 맞춰진 인자 값을 Builder에 적용합니다.
+     */
+    public void apply(MField.Builder builder, Object value) {
+        switch (this) {
+            case NAME:
+                builder.name((String) value);
+                break;
+            case TYPE:
+                builder.type((MFieldType) value);
+                break;
+            case PRIMARY_KEY:
+                builder.primaryKey((Boolean) value);
+                break;
+            case AUTO_INCREMENT:
+                builder.autoIncrement((Boolean) value);
+                break;
+            case NULLABLE:
+                builder.nullable((Boolean) value);
+                break;
+            case DEFAULT_VALUE:
+                builder.defaultValue((String) value);
+                break;
+            case LENGTH:
+                builder.length((Integer) value);
+                break;
+            case PARENT: // FK 타겟 클래스
+                builder.parent((String) value); // 클래스명 문자열 저장
+                break;
+            case ON_DELETE:
+                builder.onDelete((OnDeleteType) value);
+                break;
+            case INDEX:
+                builder.index((Boolean) value);
+                break;
+            case UNIQUE:
+                builder.unique((Boolean) value);
+                break;
+            case INDEX_METHOD:
+                builder.indexMethod((IndexMethod) value);
+                break;
+            case INDEX_OP_CLASS:
+                builder.indexOpClass((String) value);
+                break;
+            default:
+                // builder(), build()는 설정값이 없음
+                break;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dsl_variable.v2;
 
+import config.AppConfig;
 import utils.LogPrinter;
 
 import javax.lang.model.element.TypeElement;
@@ -25,6 +26,7 @@ public class MFieldValidator {
         validateForeignKey(field, element);
         validateLogicalConstraints(field, element);
         validateDefaultValue(field, element);
+        validateIndexMethod(field, element);
     }
 
 
@@ -211,4 +213,32 @@ public class MFieldValidator {
             LogPrinter.error("TYPE_MIS", colName, "Default value '" + defVal + "' does not match type '" + type + "'", element);
         }
     }
+
+    // =========================================================
+    // 7. 인덱스 접근 방식 검증
+    // =========================================================
+    private static void validateIndexMethod(MField field, TypeElement element) {
+        IndexMethod method = field.getIndexMethod();
+        String opClass = field.getIndexOpClass();
+        String colName = field.getName();
+
+        // 7-1. 인덱스 없이 접근 방식/연산자 클래스만 지정
+        if (!field.isIndex() && !field.isUnique()) {
+            if (method != null || opClass != null) {
+                LogPrinter.warn("IDX_METHOD", colName, "indexMethod and indexOpClass are ignored without index(true)", element);
+            }
+            return;
+        }
+
+        // 7-2. UNIQUE는 B-tree 인덱스만 가능
+        if (field.isUnique() && method != null && method != IndexMethod.BTREE) {
+            LogPrinter.error("IDX_METHOD", colName, "Unique index requires BTREE (got " + method + ")", element);
+        }
+
+        // 7-3. 방언별 지원 여부 (접근 방식을 지정하지 않은 기본 인덱스도 타입에 따라 불가능할 수 있음)
+        String dialectError = AppConfig.getSqlDialectImpl().indexMethodError(field.getType(), method, opClass);
+        if (dialectError != null) {
+            LogPrinter.error("IDX_METHOD", colName, dialectError, element);
+        }
+    }
 }
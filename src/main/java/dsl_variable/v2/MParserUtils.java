@@ -2,102 +2,180 @@ package dsl_variable.v2;
 
 import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.VariableDeclarator;
 import com.github.javaparser.ast.expr.*;
-import utils.LogPrinter;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStream;
 import java.util.*;
 
+/**
+ * JavaParser로 MField DSL을 읽어 MField.Builder에 바로 채웁니다.
+ * (javac 트리를 쓸 수 없는 환경용. Messager를 쓰지 않고,
+ *  문제는 위치 정보와 함께 problems 리스트에 모아 AnnotationMetadataLoader가 보고합니다.)
+ */
 public class MParserUtils {
 
     // 이제 타겟은 오직 하나입니다.
     private static final String TARGET_TYPE = "MField";
 
-    public static class Pair {
-        public String key;
-        public String value;
-        public Pair(String key, String value) { this.key = key; this.value = value; }
-        @Override public String toString() { return key + "=" + value; }
+    public static List<MField> execute(String filePath, List<String> problems) throws Exception {
+        return execute(filePath, null, problems);
     }
 
-    public static List<List<Pair>> execute(String filePath) throws Exception {
+    /**
+     * 소스 파일 전체를 파싱합니다. (인자의 상수는 파일의 import를 기준으로 해석)
+     *
+     * @param constants 상수 해석기 (null이면 리터럴만 인식)
+     */
+    public static List<MField> execute(String filePath, MConstantResolver constants, List<String> problems) throws Exception {
         File file = new File(filePath);
         if (!file.exists()) throw new Exception("File not found: " + filePath);
 
-        FileInputStream in = new FileInputStream(file);
-        CompilationUnit cu = StaticJavaParser.parse(in);
-        List<List<Pair>> result = new ArrayList<>();
-
-        cu.findAll(VariableDeclarator.class).forEach(v -> {
-            // 1. 변수 타입이 "MVariable" 인지 확인
-            if (TARGET_TYPE.equals(v.getType().asString())) {
-                List<Pair> columnInfo = new ArrayList<>();
-
-                // 2. 변수명 저장 (기본 컬럼명으로 사용됨)
-                columnInfo.add(new Pair("fieldName", v.getNameAsString()));
-
-                // 3. 메서드 체인 파싱 (.builder().type(...).build())
-                v.getInitializer().ifPresent(expr -> {
-                    parseMethodChain(expr, columnInfo);
-                });
-
-                // 체인 순서가 거꾸로 들어갈 수 있으므로 정렬이 필요하면 여기서 처리
-                // (지금 구조에선 순서가 크게 상관없음)
-                result.add(columnInfo);
-            }
-        });
+        try (InputStream in = new FileInputStream(file)) {
+            return parse(StaticJavaParser.parse(in), new ParseContext(constants, problems));
+        }
+    }
 
+    private static List<MField> parse(CompilationUnit cu, ParseContext ctx) {
+        List<MField> result = new ArrayList<>();
+        cu.findAll(VariableDeclarator.class).forEach(v -> collect(v, result, ctx));
         return result;
     }
 
-    // 재귀적으로 메서드 체인을 파고들어 정보를 추출
-    private static void parseMethodChain(Expression expr, List<Pair> info) {
-        if (expr instanceof MethodCallExpr) {
-            MethodCallExpr methodCall = (MethodCallExpr) expr;
-            String methodName = methodCall.getNameAsString();
+    private static void collect(VariableDeclarator v, List<MField> result, ParseContext ctx) {
+        // 1. 변수 타입이 "MField" 인지 확인
+        if (!TARGET_TYPE.equals(v.getType().asString())) return;
 
-            // builder()와 build()는 제외하고 실제 설정값만 추출
-            if (!"builder".equals(methodName) && !"build".equals(methodName)) {
-                String argValue = extractArgValue(methodCall);
-                // 키(메서드명)와 값(인자) 저장
+        MField.Builder builder = MField.builder();
 
+        // 2. 변수명 저장 (기본 컬럼명으로 사용됨, .name()이 있으면 덮어씀)
+        builder.name(v.getNameAsString());
 
-                info.add(new Pair(methodName, argValue));
-            }
+        // 3. 메서드 체인 파싱 (.builder().type(...).build())
+        v.getInitializer().ifPresent(expr -> parseMethodChain(expr, builder, ctx));
 
-            // 다음 체인(Scope)으로 이동 (재귀)
-            methodCall.getScope().ifPresent(scope -> parseMethodChain(scope, info));
-        }
+        result.add(builder.build());
     }
 
-    // 🔥 핵심: 인자 타입별 값 추출 로직 (Enum, Class, String 등)
-    private static String extractArgValue(MethodCallExpr methodCall) {
-        if (methodCall.getArguments().isEmpty()) return "";
+    // 재귀적으로 메서드 체인을 파고들어 소스 순서대로 Builder에 적용
+    private static void parseMethodChain(Expression expr, MField.Builder builder, ParseContext ctx) {
+        if (!(expr instanceof MethodCallExpr)) return;
+
+        MethodCallExpr methodCall = (MethodCallExpr) expr;
 
-        Expression arg = methodCall.getArgument(0);
+        // 앞쪽 체인(Scope)을 먼저 적용해야 소스 순서가 유지됨
+        methodCall.getScope().ifPresent(scope -> parseMethodChain(scope, builder, ctx));
 
-        if (arg.isStringLiteralExpr()) {
-            return arg.asStringLiteralExpr().getValue(); // "문자열" -> 문자열
+        MFieldMethod method = MFieldMethod.find(methodCall.getNameAsString());
+        if (method == null) {
+            ctx.problems.add(position(methodCall) + "Unknown MField DSL method '" + methodCall.getNameAsString() + "'");
+            return;
         }
-        else if (arg.isBooleanLiteralExpr()) {
-            return String.valueOf(arg.asBooleanLiteralExpr().getValue()); // true -> "true"
+        if (method.getArgKind() == MFieldMethod.ArgKind.NONE) return;
+
+        if (methodCall.getArguments().isEmpty()) {
+            ctx.problems.add(position(methodCall) + method.getMethodName() + "() requires an argument");
+            return;
         }
-        else if (arg.isIntegerLiteralExpr()) {
-            return arg.asIntegerLiteralExpr().getValue(); // 100 -> "100"
+
+        Object value = extractArgValue(method, methodCall.getArgument(0), ctx);
+        if (value != null) {
+            method.apply(builder, value);
         }
-        else if (arg.isFieldAccessExpr()) {
-             // Enum 처리: ColumnType.STRING -> "STRING" 추출
-            return arg.asFieldAccessExpr().getNameAsString();
+    }
+
+    // 🔥 핵심: DSL 메서드가 기대하는 타입으로 인자 값을 바로 추출 (Boolean, Integer, String, Enum)
+    private static Object extractArgValue(MFieldMethod method, Expression arg, ParseContext ctx) {
+        switch (method.getArgKind()) {
+            case BOOLEAN:
+                if (arg.isBooleanLiteralExpr()) {
+                    return arg.asBooleanLiteralExpr().getValue();
+                }
+                return resolveConstant(method, arg, ctx);
+
+            case INT:
+                if (arg.isIntegerLiteralExpr()) {
+                    return arg.asIntegerLiteralExpr().asNumber().intValue();
+                }
+                return resolveConstant(method, arg, ctx);
+
+            case STRING:
+                if (arg.isStringLiteralExpr()) {
+                    return arg.asStringLiteralExpr().asString(); // "문자열" -> 문자열
+                }
+                // 상수나 식 -> 값으로 접고, 접을 수 없으면 텍스트 그대로 사용 (CURRENT_TIMESTAMP 등)
+                Object folded = fold(method, arg, ctx);
+                if (folded != null) return folded;
+                // Enum 상수 등 필드 참조: Status.ACTIVE -> "ACTIVE"
+                return arg.isFieldAccessExpr() ? arg.asFieldAccessExpr().getNameAsString() : arg.toString();
+
+            case CLASS_NAME:
+                if (arg.isClassExpr()) {
+                    // Class 처리: UserEntity.class -> "UserEntity" 추출
+                    return arg.asClassExpr().getType().asString();
+                }
+                if (arg.isStringLiteralExpr()) {
+                    return arg.asStringLiteralExpr().asString();
+                }
+                break;
+
+            case FIELD_TYPE:
+            case ON_DELETE:
+            case INDEX_METHOD:
+                // Enum 처리: MFieldType.STRING -> STRING (static import면 NameExpr)
+                String constant = arg.isFieldAccessExpr() ? arg.asFieldAccessExpr().getNameAsString()
+                        : arg.isNameExpr() ? arg.asNameExpr().getNameAsString()
+                        : null;
+                if (constant != null) {
+                    try {
+                        return method.enumValue(constant);
+                    } catch (IllegalArgumentException e) {
+                        ctx.problems.add(position(arg) + "Unknown constant '" + constant + "' for " + method.getMethodName() + "()");
+                        return null;
+                    }
+                }
+                break;
+
+            default:
+                break;
         }
-        else if (arg.isClassExpr()) {
-            // Class 처리: UserEntity.class -> "UserEntity" 추출
-            return arg.asClassExpr().getType().asString();
+
+        ctx.problems.add(position(arg) + "Unsupported argument '" + arg + "' for " + method.getMethodName() + "()");
+        return null;
+    }
+
+    private static Object resolveConstant(MFieldMethod method, Expression arg, ParseContext ctx) {
+        Object value = fold(method, arg, ctx);
+        if (value == null) {
+            ctx.problems.add(position(arg) + "Unsupported argument '" + arg + "' for " + method.getMethodName()
+                    + "() (not a literal or static final constant)");
         }
-        else {
-            // 그 외 (상수나 변수 등) -> 텍스트 그대로 반환
-            return arg.toString();
+        return value;
+    }
+
+    // static final 상수와 간단한 식을 값으로 접음
+    private static Object fold(MFieldMethod method, Expression arg, ParseContext ctx) {
+        if (ctx.constants == null) return null;
+        return MConstantResolver.coerce(method.getArgKind(), ctx.constants.resolve(arg));
+    }
+
+    // 한 파일을 파싱하는 동안 함께 넘기는 값들
+    private static class ParseContext {
+        final MConstantResolver constants;
+        final List<String> problems;
+
+        ParseContext(MConstantResolver constants, List<String> problems) {
+            this.constants = constants;
+            this.problems = problems;
         }
     }
-}
\ No newline at end of file
+
+    private static String position(Node node) {
+        return node.getBegin()
+                .map(p -> "line " + p.line + ", col " + p.column + ": ")
+                .orElse("");
+    }
+}
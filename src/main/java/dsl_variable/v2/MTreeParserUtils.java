@@ -0,0 +1,177 @@
+package dsl_variable.v2;
+
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.Trees;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * javac가 이미 만들어 둔 구문 트리(com.sun.source)에서 MField DSL을 읽어 MField.Builder에 바로 채웁니다.
+ * 소스 파일을 다시 읽거나 파싱하지 않으며, 프로세서 스레드에서만 호출됩니다.
+ * 알 수 없는 메서드/인자는 해당 트리의 소스 위치로 경고를 남깁니다.
+ * 리터럴이 아닌 인자(상수, 간단한 식)는 MConstantResolver로 값을 접습니다.
+ */
+public class MTreeParserUtils {
+
+    private static final String TARGET_TYPE = "MField";
+
+    public static List<MField> execute(Trees trees, TypeElement element, MConstantResolver constants) {
+        List<MField> result = new ArrayList<>();
+        CompilationUnitTree unit = trees.getPath(element).getCompilationUnit();
+
+        for (VariableElement field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+            Tree tree = trees.getTree(field);
+            if (!(tree instanceof VariableTree)) continue;
+
+            VariableTree v = (VariableTree) tree;
+
+            // 1. 변수 타입이 "MField" 인지 확인
+            if (!TARGET_TYPE.equals(v.getType().toString())) continue;
+
+            MField.Builder builder = MField.builder();
+
+            // 2. 변수명 저장 (기본 컬럼명으로 사용됨, .name()이 있으면 덮어씀)
+            builder.name(v.getName().toString());
+
+            // 3. 메서드 체인 파싱 (.builder().type(...).build())
+            if (v.getInitializer() != null) {
+                parseMethodChain(v.getInitializer(), builder, new TreeContext(trees, unit, element, constants));
+            }
+
+            result.add(builder.build());
+        }
+
+        return result;
+    }
+
+    // 재귀적으로 메서드 체인을 파고들어 소스 순서대로 Builder에 적용
+    private static void parseMethodChain(ExpressionTree expr, MField.Builder builder, TreeContext ctx) {
+        if (!(expr instanceof MethodInvocationTree)) return;
+
+        MethodInvocationTree methodCall = (MethodInvocationTree) expr;
+        if (!(methodCall.getMethodSelect() instanceof MemberSelectTree)) return;
+
+        MemberSelectTree select = (MemberSelectTree) methodCall.getMethodSelect();
+
+        // 앞쪽 체인(Scope)을 먼저 적용해야 소스 순서가 유지됨
+        parseMethodChain(select.getExpression(), builder, ctx);
+
+        String methodName = select.getIdentifier().toString();
+        MFieldMethod method = MFieldMethod.find(methodName);
+        if (method == null) {
+            report(ctx, methodCall, "Unknown MField DSL method '" + methodName + "'");
+            return;
+        }
+        if (method.getArgKind() == MFieldMethod.ArgKind.NONE) return;
+
+        if (methodCall.getArguments().isEmpty()) {
+            report(ctx, methodCall, methodName + "() requires an argument");
+            return;
+        }
+
+        Object value = extractArgValue(method, methodCall.getArguments().get(0), ctx);
+        if (value != null) {
+            method.apply(builder, value);
+        }
+    }
+
+    // DSL 메서드가 기대하는 타입으로 인자 값을 바로 추출 (LiteralTree는 이미 Boolean/Integer/String)
+    private static Object extractArgValue(MFieldMethod method, ExpressionTree arg, TreeContext ctx) {
+        switch (method.getArgKind()) {
+            case BOOLEAN:
+                if (arg instanceof LiteralTree && ((LiteralTree) arg).getValue() instanceof Boolean) {
+                    return ((LiteralTree) arg).getValue();
+                }
+                Object flag = fold(method, arg, ctx);
+                if (flag != null) return flag;
+                break;
+
+            case INT:
+                if (arg instanceof LiteralTree && ((LiteralTree) arg).getValue() instanceof Integer) {
+                    return ((LiteralTree) arg).getValue();
+                }
+                Object number = fold(method, arg, ctx);
+                if (number != null) return number;
+                break;
+
+            case STRING:
+                if (arg instanceof LiteralTree && ((LiteralTree) arg).getValue() instanceof String) {
+                    return ((LiteralTree) arg).getValue(); // "문자열" -> 문자열
+                }
+                // 상수나 식 -> 값으로 접고, 접을 수 없으면 텍스트 그대로 사용 (CURRENT_TIMESTAMP 등)
+                Object text = fold(method, arg, ctx);
+                if (text != null) return text;
+                // Enum 상수 등 필드 참조: Status.ACTIVE -> "ACTIVE"
+                return arg instanceof MemberSelectTree ? ((MemberSelectTree) arg).getIdentifier().toString() : arg.toString();
+
+            case CLASS_NAME:
+                if (arg instanceof MemberSelectTree && "class".contentEquals(((MemberSelectTree) arg).getIdentifier())) {
+                    // Class 처리: UserEntity.class -> "UserEntity" 추출
+                    return ((MemberSelectTree) arg).getExpression().toString();
+                }
+                if (arg instanceof LiteralTree && ((LiteralTree) arg).getValue() instanceof String) {
+                    return ((LiteralTree) arg).getValue();
+                }
+                break;
+
+            case FIELD_TYPE:
+            case ON_DELETE:
+            case INDEX_METHOD:
+                // Enum 처리: MFieldType.STRING -> STRING (static import면 IdentifierTree)
+                String constant = arg instanceof MemberSelectTree ? ((MemberSelectTree) arg).getIdentifier().toString()
+                        : arg instanceof IdentifierTree ? ((IdentifierTree) arg).getName().toString()
+                        : null;
+                if (constant != null) {
+                    try {
+                        return method.enumValue(constant);
+                    } catch (IllegalArgumentException e) {
+                        report(ctx, arg, "Unknown constant '" + constant + "' for " + method.getMethodName() + "()");
+                        return null;
+                    }
+                }
+                break;
+
+            default:
+                break;
+        }
+
+        report(ctx, arg, "Unsupported argument '" + arg + "' for " + method.getMethodName() + "()");
+        return null;
+    }
+
+    private static Object fold(MFieldMethod method, ExpressionTree arg, TreeContext ctx) {
+        if (ctx.constants == null) return null;
+        return MConstantResolver.coerce(method.getArgKind(), ctx.constants.resolve(arg, ctx.owner, ctx.unit));
+    }
+
+    private static void report(TreeContext ctx, Tree tree, String message) {
+        ctx.trees.printMessage(Diagnostic.Kind.WARNING, "[JPM] " + message, tree, ctx.unit);
+    }
+
+    // 한 엔티티를 읽는 동안 함께 넘기는 값들
+    private static class TreeContext {
+        final Trees trees;
+        final CompilationUnitTree unit;
+        final TypeElement owner;
+        final MConstantResolver constants;
+
+        TreeContext(Trees trees, CompilationUnitTree unit, TypeElement owner, MConstantResolver constants) {
+            this.trees = trees;
+            this.unit = unit;
+            this.owner = owner;
+            this.constants = constants;
+        }
+    }
+}
@@ -20,4 +20,12 @@ public enum OnDeleteType {
     public String getSql() {
         return sql;
     }
+
+    // SQL 문자열("SET NULL")로 상수 찾기
+    public static OnDeleteType fromSql(String sql) {
+        for (OnDeleteType type : values()) {
+            if (type.sql.equals(sql)) return type;
+        }
+        throw new IllegalArgumentException("Unknown ON DELETE action: " + sql);
+    }
 }
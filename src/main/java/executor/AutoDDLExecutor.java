@@ -88,6 +88,13 @@ public class AutoDDLExecutor {
 
             // 5. 커밋
             session.commit();
+
+            // 6. 트랜잭션 밖에서 실행할 문장 (onlineDdl: CREATE INDEX CONCURRENTLY) - autocommit 세션에서 한 문장씩
+            for (int i = 1; config.hasStatement(fullStatementId + "_standalone_" + i); i++) {
+                try (SqlSession standalone = sqlSessionFactory.openSession(true)) {
+                    standalone.update(fullStatementId + "_standalone_" + i);
+                }
+            }
             System.out.println("✅ [AutoDDL] Successfully applied to PostgreSQL.");
 
         } catch (IOException e) {
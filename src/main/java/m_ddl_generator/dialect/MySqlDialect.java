@@ -1,17 +1,48 @@
 package m_ddl_generator.dialect;
 
+import annotation.RowFormat;
+import dsl_variable.v2.IndexMethod;
 import dsl_variable.v2.MFieldType;
 import m_ddl_generator.model.ColumnMetadata;
+import m_ddl_generator.model.IndexMetadata;
+import m_ddl_generator.model.PartitionMetadata;
+import m_ddl_generator.model.StorageMetadata;
 import m_ddl_generator.model.TableMetadata;
 import utils.LogPrinter;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 public class MySqlDialect implements SqlDialect {
 
+    // 온라인 DDL: MySQL이 지정한 알고리즘/잠금으로 수행할 수 없으면 문장이 바로 실패함
+    // (COPY 알고리즘이나 테이블 잠금으로 조용히 바뀌지 않음)
+    // FK 제약조건 추가는 foreign_key_checks=1 에서 INPLACE가 불가능하므로 온라인 절을 붙이지 않음
+    private static final String ONLINE_ADD_COLUMN = ", ALGORITHM=INSTANT";
+    private static final String ONLINE_ALTER = ", ALGORITHM=INPLACE, LOCK=NONE";
+    private static final String ONLINE_INDEX = " ALGORITHM=INPLACE LOCK=NONE";
+
+    private final boolean online;
+    // UUID_V_7을 BINARY(16)으로 저장 (CHAR(36) utf8mb4는 키 하나에 최대 144바이트, 문자열 비교)
+    private final boolean uuidBinary;
+
+    public MySqlDialect() {
+        this(false);
+    }
+
+    public MySqlDialect(boolean online) {
+        this(online, false);
+    }
+
+    public MySqlDialect(boolean online, boolean uuidBinary) {
+        this.online = online;
+        this.uuidBinary = uuidBinary;
+    }
+
     @Override
     public String getField(MFieldType fieldType) {
 
@@ -21,7 +52,8 @@ public class MySqlDialect implements SqlDialect {
         }
         else if(fieldType.equals(MFieldType.UUID_V_7)) {
 
-            return "CHAR(36)";
+            // 런타임 변환은 type_handler.UuidBinaryTypeHandler / UuidCharTypeHandler
+            return uuidBinary ? "BINARY(16)" : "CHAR(36)";
         }
 
         LogPrinter.error(fieldType.toString(), "", "FieldTypeError MysqlDialect class", null);
@@ -37,15 +69,23 @@ public class MySqlDialect implements SqlDialect {
     }
 
     @Override
-    public String createTableDefinitionSql(TableMetadata table) {
+    public String createTableDefinitionSql(TableMetadata table, Map<String, List<String>> parentFieldTypes, Set<ColumnMetadata> deferredFks) {
         StringBuilder sb = new StringBuilder();
         sb.append("CREATE TABLE IF NOT EXISTS ").append(table.getTableName()).append(" (\n");
 
         List<String> pkColumns = new ArrayList<>();
         List<String> definitions = new ArrayList<>();
+        List<String> constraints = new ArrayList<>();
 
         for (ColumnMetadata col : table.getColumns()) {
-            if (col.isForeignKey()) continue;
+            if (col.isForeignKey()) {
+                // FK 컬럼과 제약조건도 CREATE 안에서 정의 (순환 참조 FK의 제약조건만 나중에 ALTER)
+                definitions.add("\t" + col.getName() + " " + foreignKeyColumnType(col, parentFieldTypes));
+                if (!deferredFks.contains(col)) {
+                    constraints.add("\t" + foreignKeyConstraintSql(table, col));
+                }
+                continue;
+            }
 
             if (col.isContainPrimaryKey()) pkColumns.add(col.getName());
 
@@ -59,14 +99,133 @@ public class MySqlDialect implements SqlDialect {
             sb.append(",\n\tPRIMARY KEY (").append(String.join(", ", pkColumns)).append(")");
         }
 
+        if (!constraints.isEmpty()) {
+            sb.append(",\n").append(String.join(",\n", constraints));
+        }
+
 
 
         // [수정] 세미콜론 제거 & 엔진 설정 유지
-        sb.append("\n) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4");
+        sb.append("\n) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4").append(tableOptions(table));
+
+        // 파티션은 CREATE TABLE 안에서 정의
+        if (table.isPartitioned()) {
+            sb.append("\n").append(partitionClause(table.getPartition()));
+        }
 
         return sb.toString();
     }
 
+    /**
+     * RANGE/LIST는 COLUMNS 방식(정수 외 DATE, DATETIME, 문자열 키 가능), HASH는 KEY 방식(모든 타입)
+     */
+    private String partitionClause(PartitionMetadata partition) {
+        List<String> parts = new ArrayList<>();
+        switch (partition.getType()) {
+            case RANGE:
+                for (PartitionMetadata.Bound bound : partition.getBounds()) {
+                    parts.add("\tPARTITION " + bound.getName() + " VALUES LESS THAN (" + bound.getValues().get(0) + ")");
+                }
+                return "PARTITION BY RANGE COLUMNS(" + partition.getColumn() + ") (\n" + String.join(",\n", parts) + "\n)";
+            case LIST:
+                for (PartitionMetadata.Bound bound : partition.getBounds()) {
+                    parts.add("\tPARTITION " + bound.getName() + " VALUES IN (" + String.join(", ", bound.getValues()) + ")");
+                }
+                return "PARTITION BY LIST COLUMNS(" + partition.getColumn() + ") (\n" + String.join(",\n", parts) + "\n)";
+            case HASH:
+                return "PARTITION BY KEY(" + partition.getColumn() + ") PARTITIONS " + partition.getCount();
+            default:
+                return "";
+        }
+    }
+
+    // InnoDB 행 형식/압축 (information_schema.TABLES의 ROW_FORMAT, CREATE_OPTIONS와 같은 이름)
+    @Override
+    public Map<String, String> storageOptions(StorageMetadata storage) {
+        Map<String, String> options = new LinkedHashMap<>();
+        if (storage == null) return options;
+
+        if (storage.getRowFormat() != RowFormat.DEFAULT) options.put("row_format", storage.getRowFormat().name());
+        if (storage.getKeyBlockSize() > 0) options.put("key_block_size", String.valueOf(storage.getKeyBlockSize()));
+        return options;
+    }
+
+    /**
+     * 행 형식/KEY_BLOCK_SIZE 변경은 테이블을 재작성함 (온라인이면 INPLACE + LOCK=NONE)
+     */
+    @Override
+    public Map<String, String> createAlterStorageSql(TableMetadata table) {
+        Map<String, String> sqls = new LinkedHashMap<>();
+        String options = tableOptions(table);
+        if (!options.isEmpty()) {
+            sqls.put(table.getTableName(), "ALTER TABLE " + table.getTableName() + options + onlineClause(ONLINE_ALTER));
+        }
+        return sqls;
+    }
+
+    /**
+     * ALTER 정책은 매번 실행되므로 옵션이 이미 같으면 재작성하지 않도록 프로시저로 확인 후 ALTER
+     */
+    @Override
+    public List<String> createAlterStorageIfChangedSql(TableMetadata table) {
+        Map<String, String> options = storageOptions(table.getStorage());
+        if (options.isEmpty()) return new ArrayList<>();
+
+        String tableName = table.getTableName();
+        String procName = "AlterStorage_" + tableName;
+
+        StringBuilder sb = new StringBuilder();
+        // 1. 프로시저 정의 (DELIMITER 없이 MyBatis에서 실행 가능하도록 작성)
+        sb.append("CREATE PROCEDURE ").append(procName).append("() BEGIN\n");
+        //    2. 선언한 옵션이 모두 적용된 상태인지 확인 (information_schema 활용)
+        sb.append("\tIF NOT EXISTS (\n");
+        sb.append("\t\tSELECT * FROM information_schema.TABLES\n");
+        sb.append("\t\tWHERE TABLE_SCHEMA = DATABASE()\n");
+        sb.append("\t\tAND TABLE_NAME = '").append(tableName).append("'\n");
+        if (options.containsKey("row_format")) {
+            sb.append("\t\tAND LOWER(ROW_FORMAT) = '").append(options.get("row_format").toLowerCase()).append("'\n");
+        }
+        if (options.containsKey("key_block_size")) {
+            // 뒤에 공백을 붙여서 비교 (key_block_size=1 이 16과 일치하지 않도록)
+            sb.append("\t\tAND CONCAT(LOWER(CREATE_OPTIONS), ' ') LIKE '%key_block_size=").append(options.get("key_block_size")).append(" %'\n");
+        }
+        sb.append("\t) THEN\n");
+        //    3. 다르면 ALTER 실행
+        sb.append("\t\t").append(createAlterStorageSql(table).get(tableName)).append(";\n");
+        sb.append("\tEND IF;\n");
+        sb.append("END");
+
+        return procedureCall(procName, sb.toString());
+    }
+
+    /**
+     * 임시 프로시저 실행 순서 [삭제(있으면), 정의, 실행, 삭제]를 한 문장씩 반환합니다.
+     * (각 원소가 JDBC 문장 하나이므로 allowMultiQueries 없이도 실행 가능)
+     */
+    private static List<String> procedureCall(String procName, String createProcedureSql) {
+        List<String> sqls = new ArrayList<>();
+        sqls.add("DROP PROCEDURE IF EXISTS " + procName);
+        sqls.add(createProcedureSql);
+        sqls.add("CALL " + procName + "()");
+        sqls.add("DROP PROCEDURE " + procName);
+        return sqls;
+    }
+
+    // " ROW_FORMAT=COMPRESSED KEY_BLOCK_SIZE=8" (옵션이 없으면 빈 문자열)
+    private String tableOptions(TableMetadata table) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> e : storageOptions(table.getStorage()).entrySet()) {
+            sb.append(" ").append(e.getKey().toUpperCase()).append("=").append(e.getValue());
+        }
+        return sb.toString();
+    }
+
+    // InnoDB 파티션 테이블은 FK를 가질 수도, 참조될 수도 없음
+    @Override
+    public boolean supportsPartitionForeignKeys() {
+        return false;
+    }
+
     private String buildColumnSql(ColumnMetadata col) {
         StringBuilder sb = new StringBuilder();
         sb.append(col.getName()).append(" ").append(col.getType());
@@ -81,12 +240,22 @@ public class MySqlDialect implements SqlDialect {
 
         if(col.isContainUUIDV7())
         {
-            sb.append(" CONSTRAINT "+col.getName()+"_v7_chk CHECK (SUBSTRING(id, 15, 1) = '7')");
+            sb.append(" CONSTRAINT ").append(col.getName()).append("_v7_chk CHECK (").append(uuidV7Check(col.getName())).append(")");
         }
 
         return sb.toString();
     }
 
+    /**
+     * 버전 니블 검사: 문자열은 15번째 글자, 바이너리는 7번째 바이트의 상위 4비트
+     */
+    private String uuidV7Check(String colName) {
+        if (uuidBinary) {
+            return "(ASCII(SUBSTRING(" + colName + ", 7, 1)) >> 4) = 7";
+        }
+        return "SUBSTRING(" + colName + ", 15, 1) = '7'";
+    }
+
     @Override
     public List<String> createAlterTableSql(TableMetadata table, ColumnMetadata col, HashMap<String, List<String>> parentFieldTypes) {
 
@@ -107,51 +276,241 @@ public class MySqlDialect implements SqlDialect {
 
 
 
-            sql.add(String.format("ALTER TABLE %s ADD COLUMN %s %s", table.getTableName(), col.getName(), parentFieldType));
-            String constraintName = "fk_" + table.getTableName() + "_" + col.getName();
-            sql.add(String.format("ALTER TABLE %s ADD CONSTRAINT %s FOREIGN KEY (%s) REFERENCES %s (%s) ON DELETE %s",
-                    table.getTableName(), constraintName, col.getName(),
-                    col.getFkTargetTable(), col.getFkTargetColumn(), col.getOnDeleteAction()));
+            sql.add(String.format("ALTER TABLE %s ADD COLUMN %s %s", table.getTableName(), col.getName(), parentFieldType)
+                    + onlineClause(ONLINE_ADD_COLUMN));
+            // FK 추가에는 온라인 절을 붙이지 않음: INPLACE는 foreign_key_checks=0 일 때만 가능하고,
+            // 검사를 끄면 기존 행을 검증하지 않으므로 COPY(테이블 재작성, 쓰기 차단)로 실행됨
+            sql.add(createForeignKeyConstraintSql(table, col));
         }
         return sql;
     }
 
+    /**
+     * information_schema.TABLE_CONSTRAINTS에 같은 이름의 FK가 없을 때만 ADD CONSTRAINT
+     */
+    @Override
+    public List<String> createForeignKeyConstraintIfNotExistsSql(TableMetadata table, ColumnMetadata col) {
+        String tableName = table.getTableName();
+        String procName = "AddFk_" + tableName + "_" + col.getName();
 
+        StringBuilder sb = new StringBuilder();
+        // 1. 프로시저 정의 (DELIMITER 없이 MyBatis에서 실행 가능하도록 작성)
+        sb.append("CREATE PROCEDURE ").append(procName).append("() BEGIN\n");
+        //    2. 같은 이름의 FK가 있는지 확인 (information_schema 활용)
+        sb.append("\tIF NOT EXISTS (\n");
+        sb.append("\t\tSELECT * FROM information_schema.TABLE_CONSTRAINTS\n");
+        sb.append("\t\tWHERE TABLE_SCHEMA = DATABASE()\n");
+        sb.append("\t\tAND TABLE_NAME = '").append(tableName).append("'\n");
+        sb.append("\t\tAND CONSTRAINT_NAME = '").append(foreignKeyConstraintName(table, col)).append("'\n");
+        sb.append("\t\tAND CONSTRAINT_TYPE = 'FOREIGN KEY'\n");
+        sb.append("\t) THEN\n");
+        //    3. 없으면 ADD CONSTRAINT 실행
+        sb.append("\t\t").append(createForeignKeyConstraintSql(table, col)).append(";\n");
+        sb.append("\tEND IF;\n");
+        sb.append("END");
 
+        return procedureCall(procName, sb.toString());
+    }
 
+    /**
+     * information_schema.TABLE_CONSTRAINTS에 같은 이름의 FK가 있을 때만 DROP FOREIGN KEY
+     * (MySQL DROP TABLE은 다른 테이블이 참조 중이면 실패하므로 순환 FK를 먼저 끊음. 테이블이 없으면 아무것도 하지 않음)
+     */
     @Override
-    public String createAddColumnIfNotExistsSql(TableMetadata table, ColumnMetadata col) {
+    public List<String> createDropForeignKeyIfExistsSql(TableMetadata table, ColumnMetadata col) {
         String tableName = table.getTableName();
-        String colName = col.getName();
-        // 프로시저 이름이 겹치지 않게 테이블_컬럼명으로 생성
-        String procName = "AddCol_" + tableName + "_" + colName;
-        // 실제 실행할 ALTER 문 (예: ALTER TABLE job ADD COLUMN good VARCHAR(255)...)
-        String alterSql = "ALTER TABLE " + tableName + " ADD COLUMN " + buildColumnSql(col);
+        String constraintName = foreignKeyConstraintName(table, col);
+        String procName = "DropFk_" + tableName + "_" + col.getName();
+
         StringBuilder sb = new StringBuilder();
-        // 1. 기존에 같은 이름의 프로시저가 있으면 삭제
-        sb.append("DROP PROCEDURE IF EXISTS ").append(procName).append(";\n");
-        // 2. 프로시저 정의 (DELIMITER 없이 MyBatis에서 실행 가능하도록 작성)
         sb.append("CREATE PROCEDURE ").append(procName).append("() BEGIN\n");
-        //    3. IF NOT EXISTS 체크 (information_schema 활용)
-        sb.append("\tIF NOT EXISTS (\n");
-        sb.append("\t\tSELECT * FROM information_schema.COLUMNS\n");
+        sb.append("\tIF EXISTS (\n");
+        sb.append("\t\tSELECT * FROM information_schema.TABLE_CONSTRAINTS\n");
         sb.append("\t\tWHERE TABLE_SCHEMA = DATABASE()\n");
         sb.append("\t\tAND TABLE_NAME = '").append(tableName).append("'\n");
-        sb.append("\t\tAND COLUMN_NAME = '").append(colName).append("'\n");
+        sb.append("\t\tAND CONSTRAINT_NAME = '").append(constraintName).append("'\n");
+        sb.append("\t\tAND CONSTRAINT_TYPE = 'FOREIGN KEY'\n");
         sb.append("\t) THEN\n");
-        //    4. 없으면 ALTER 문 실행
-        sb.append("\t\t").append(alterSql).append(";\n");
+        sb.append("\t\tALTER TABLE ").append(tableName).append(" DROP FOREIGN KEY ").append(constraintName).append(";\n");
         sb.append("\tEND IF;\n");
-        sb.append("END;\n");
-        // 5. 프로시저 실행
-        sb.append("CALL ").append(procName).append("();\n");
-        // 6. 프로시저 삭제 (청소)
-        sb.append("DROP PROCEDURE ").append(procName).append(";");
+        sb.append("END");
 
-        return sb.toString();
+        return procedureCall(procName, sb.toString());
     }
 
+    @Override
+    public String createAddColumnSql(TableMetadata table, ColumnMetadata col) {
+        return "ALTER TABLE " + table.getTableName() + " ADD COLUMN " + buildColumnSql(col) + onlineClause(ONLINE_ADD_COLUMN);
+    }
 
+    /**
+     * InnoDB는 ALTER 한 번마다 테이블을 재작성(또는 INSTANT 추가)하므로 한 테이블의 컬럼은 한 문장으로 추가합니다.
+     */
+    @Override
+    public List<String> createAddColumnsSql(TableMetadata table, List<ColumnMetadata> cols) {
+        List<String> sqls = new ArrayList<>();
+        if (cols.isEmpty()) return sqls;
 
+        List<String> clauses = new ArrayList<>();
+        for (ColumnMetadata col : cols) {
+            clauses.add("ADD COLUMN " + buildColumnSql(col));
+        }
+        sqls.add("ALTER TABLE " + table.getTableName() + " " + String.join(", ", clauses) + onlineClause(ONLINE_ADD_COLUMN));
+        return sqls;
+    }
+
+    /**
+     * 테이블당 프로시저 하나: information_schema 조회 한 번으로 기존 컬럼을 읽고,
+     * 없는 컬럼만 모아 "ALTER TABLE t ADD COLUMN a ..., ADD COLUMN b ..." 한 문장을 동적으로 실행합니다.
+     */
+    @Override
+    public List<String> createAddColumnsIfNotExistsSql(TableMetadata table, List<ColumnMetadata> cols) {
+        if (cols.isEmpty()) return new ArrayList<>();
+
+        String tableName = table.getTableName();
+        String procName = "AddCols_" + tableName;
+
+        StringBuilder sb = new StringBuilder();
+        // 1. 프로시저 정의 (DELIMITER 없이 MyBatis에서 실행 가능하도록 작성)
+        sb.append("CREATE PROCEDURE ").append(procName).append("() BEGIN\n");
+        sb.append("\tDECLARE existing TEXT;\n");
+        sb.append("\tDECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;\n");
+        //    2. 기존 컬럼 목록을 한 번에 조회 (컬럼이 많아도 잘리지 않도록 길이 제한을 잠시 늘렸다가 원래 값으로 복원)
+        sb.append("\tSET SESSION group_concat_max_len = 1048576;\n");
+        sb.append("\tSELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS\n");
+        sb.append("\t\tWHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '").append(tableName).append("';\n");
+        sb.append("\tSET SESSION group_concat_max_len = prev_len;\n");
+        //    3. 없는 컬럼만 ADD COLUMN 절로 모음
+        sb.append("\tSET @jpm_ddl = NULL;\n");
+        for (ColumnMetadata col : cols) {
+            sb.append("\tIF FIND_IN_SET('").append(col.getName()).append("', existing) = 0 THEN ")
+                    .append("SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, '")
+                    .append(quote("ADD COLUMN " + buildColumnSql(col)))
+                    .append("'); END IF;\n");
+        }
+        //    4. 하나라도 있으면 ALTER 한 번 실행
+        sb.append("\tIF @jpm_ddl IS NOT NULL THEN\n");
+        sb.append("\t\tSET @jpm_ddl = CONCAT('ALTER TABLE ").append(tableName).append(" ', @jpm_ddl")
+                .append(online ? ", '" + ONLINE_ADD_COLUMN + "'" : "").append(");\n");
+        sb.append("\t\tPREPARE jpm_stmt FROM @jpm_ddl;\n");
+        sb.append("\t\tEXECUTE jpm_stmt;\n");
+        sb.append("\t\tDEALLOCATE PREPARE jpm_stmt;\n");
+        sb.append("\tEND IF;\n");
+        sb.append("END");
+
+        return procedureCall(procName, sb.toString());
+    }
+
+    /**
+     * 온라인: 인덱스는 INPLACE + LOCK=NONE (인덱스 생성 중에도 읽기/쓰기 허용)
+     */
+    @Override
+    public List<String> createIndexSql(TableMetadata table) {
+        List<String> sqls = new ArrayList<>();
+        for (String sql : SqlDialect.super.createIndexSql(table)) {
+            sqls.add(sql + onlineClause(ONLINE_INDEX));
+        }
+        return sqls;
+    }
+
+    /**
+     * JSON 컬럼 + GIN: multi-valued 함수 인덱스 (MEMBER OF / JSON_CONTAINS / JSON_OVERLAPS 조회에 사용)
+     * 최상위 값이 스칼라 배열(["a", "b"])인 경우만 색인됨. 객체나 중첩 배열은 대상이 아님
+     */
+    @Override
+    public String createColumnIndexSql(TableMetadata table, ColumnMetadata col) {
+        String indexName = "idx_" + table.getTableName() + "_" + col.getName();
+
+        if ("JSON".equals(col.getType()) && col.getIndexMethod() == IndexMethod.GIN) {
+            return String.format("CREATE INDEX IF NOT EXISTS %s ON %s ((CAST(%s->'$' AS CHAR(255) ARRAY)))",
+                    indexName, table.getTableName(), col.getName());
+        }
+        if (col.getIndexMethod() == IndexMethod.BTREE) {
+            return SqlDialect.super.createColumnIndexSql(table, col) + " USING BTREE";
+        }
+        return SqlDialect.super.createColumnIndexSql(table, col);
+    }
 
-}
\ No newline at end of file
+    /**
+     * InnoDB 인덱스는 B-tree뿐 (HASH는 지정해도 조용히 B-tree로 바뀌므로 거부)
+     * JSON 컬럼은 직접 인덱스를 만들 수 없으므로 GIN(스칼라 배열 multi-valued 인덱스)을 명시한 경우만 허용
+     */
+    @Override
+    public String indexMethodError(MFieldType fieldType, IndexMethod method, String opClass) {
+        if (opClass != null) {
+            return "MySQL does not support index operator classes";
+        }
+        if (fieldType == MFieldType.JSON) {
+            return method == IndexMethod.GIN
+                    ? null
+                    : "MySQL cannot index a JSON column directly (use IndexMethod.GIN for a multi-valued index over an array of scalars)";
+        }
+        if (method == null || method == IndexMethod.BTREE) {
+            return null;
+        }
+        if (method == IndexMethod.GIN) {
+            return "MySQL supports GIN only on JSON columns (as a multi-valued index over an array of scalars)";
+        }
+        return "MySQL (InnoDB) does not support " + method + " indexes";
+    }
+
+    @Override
+    public boolean supportsIndexInclude() {
+        return false;
+    }
+
+    /**
+     * MySQL에는 INCLUDE 절이 없으므로 커버링 컬럼을 키 뒤에 붙여서 같은 효과를 냄
+     * (UNIQUE 인덱스는 유일성 기준이 바뀌므로 붙이지 않음. 경고는 AnnotationMetadataLoader가 소스 위치와 함께 남김)
+     */
+    @Override
+    public String createIndexSql(TableMetadata table, IndexMetadata index) {
+        List<String> keys = new ArrayList<>();
+        for (IndexMetadata.IndexColumn col : index.getColumns()) {
+            keys.add(col.toSql());
+        }
+
+        if (!index.isUnique()) {
+            keys.addAll(index.getIncludeColumns());
+        }
+
+        return String.format("CREATE %sINDEX IF NOT EXISTS %s ON %s (%s)",
+                index.isUnique() ? "UNIQUE " : "", index.getName(), table.getTableName(), String.join(", ", keys));
+    }
+
+    private String onlineClause(String clause) {
+        return online ? clause : "";
+    }
+
+    // 동적 SQL 문자열 리터럴 안에 넣기 위해 ' 와 \ 를 이스케이프 (DEFAULT 'A' 등)
+    private static String quote(String sql) {
+        return sql.replace("\\", "\\\\").replace("'", "''");
+    }
+
+    @Override
+    public String catalogColumnsQuery() {
+        return "SELECT TABLE_NAME, COLUMN_NAME FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE()";
+    }
+
+    @Override
+    public String catalogIndexesQuery() {
+        return "SELECT DISTINCT TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE()";
+    }
+
+    @Override
+    public String catalogForeignKeysQuery() {
+        return "SELECT TABLE_NAME, CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND CONSTRAINT_TYPE = 'FOREIGN KEY'";
+    }
+
+    // 행 형식은 ROW_FORMAT 컬럼, KEY_BLOCK_SIZE는 CREATE_OPTIONS 문자열 안에만 있음
+    @Override
+    public String catalogStorageOptionsQuery() {
+        return "SELECT TABLE_NAME, CONCAT('row_format=', ROW_FORMAT) FROM information_schema.TABLES"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_TYPE = 'BASE TABLE'"
+                + " UNION ALL SELECT TABLE_NAME, CONCAT('key_block_size=',"
+                + " SUBSTRING_INDEX(SUBSTRING_INDEX(LOWER(CREATE_OPTIONS), 'key_block_size=', -1), ' ', 1))"
+                + " FROM information_schema.TABLES"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND LOWER(CREATE_OPTIONS) LIKE '%key_block_size=%'";
+    }
+}
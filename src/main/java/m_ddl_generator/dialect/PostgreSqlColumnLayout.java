@@ -0,0 +1,107 @@
+package m_ddl_generator.dialect;
+
+import m_ddl_generator.model.ColumnMetadata;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * PostgreSQL 행(tuple) 안의 컬럼 정렬 패딩을 줄이는 물리 컬럼 순서
+ *
+ * PostgreSQL은 고정 길이 컬럼을 타입 정렬 단위(8/4/2/1 바이트)에 맞춰 저장하므로
+ * BIGINT 사이에 BOOLEAN이 있으면 다음 BIGINT 앞에 7바이트 패딩이 생깁니다.
+ * - PK 컬럼을 맨 앞 (선언 순서 유지)
+ * - 나머지는 정렬 단위가 큰 순서 (8 -> 4 -> 2 -> 1), 같은 단위 안에서는 선언 순서
+ * - 가변 길이(varlena: VARCHAR, TEXT, NUMERIC, JSONB 등)는 맨 뒤
+ */
+public final class PostgreSqlColumnLayout {
+
+    // 가변 길이 타입 (짧은 값은 1바이트 헤더라 정렬하지 않음 -> 고정 길이 뒤에 둠)
+    private static final int VARLENA = 0;
+
+    private PostgreSqlColumnLayout() {
+    }
+
+    /**
+     * PK 먼저, 그 다음 정렬 단위 내림차순, 가변 길이는 맨 뒤 (정렬은 안정 정렬이라 같은 그룹은 선언 순서)
+     */
+    public static List<ColumnMetadata> reorder(List<ColumnMetadata> columns) {
+        List<ColumnMetadata> ordered = new ArrayList<>(columns);
+        ordered.sort(Comparator
+                .comparing((ColumnMetadata col) -> !col.isContainPrimaryKey())
+                .thenComparing(col -> -alignment(typeOf(col))));
+        return ordered;
+    }
+
+    /**
+     * 모든 컬럼이 NULL이 아닐 때 행 데이터 영역의 고정 길이 부분 추정치 (바이트)
+     * 가변 길이 컬럼은 패딩 없이 1바이트(짧은 헤더)로 계산하고, 마지막에 MAXALIGN(8)
+     */
+    public static int estimateRowWidth(List<ColumnMetadata> columns) {
+        int offset = 0;
+        for (ColumnMetadata col : columns) {
+            String type = typeOf(col);
+            int align = alignment(type);
+            if (align == VARLENA) {
+                offset += 1;
+                continue;
+            }
+            offset = alignUp(offset, align) + length(type);
+        }
+        return alignUp(offset, 8);
+    }
+
+    // FK 컬럼 타입은 부모 PK 타입으로 로드됨 (AnnotationMetadataLoader, UUID 부모면 UUID)
+    private static String typeOf(ColumnMetadata col) {
+        String type = col.getType();
+        return type == null ? "" : type.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * pg_type.typalign 기준 정렬 단위 (가변 길이는 VARLENA)
+     */
+    private static int alignment(String type) {
+        String base = baseType(type);
+        switch (base) {
+            case "BIGINT": case "INT8": case "BIGSERIAL":
+            case "DOUBLE PRECISION": case "FLOAT8": case "FLOAT":
+            case "TIMESTAMP": case "TIMESTAMPTZ": case "TIME": case "INTERVAL": case "MONEY":
+                return 8;
+            case "INT": case "INTEGER": case "INT4": case "SERIAL":
+            case "REAL": case "FLOAT4": case "DATE":
+                return 4;
+            case "SMALLINT": case "INT2": case "SMALLSERIAL":
+                return 2;
+            case "BOOLEAN": case "BOOL": case "UUID":
+                return 1;
+            default:
+                return VARLENA;
+        }
+    }
+
+    // pg_type.typlen (고정 길이 타입만)
+    private static int length(String type) {
+        switch (baseType(type)) {
+            case "INTERVAL": case "UUID":
+                return 16;
+            case "BOOLEAN": case "BOOL":
+                return 1;
+            default:
+                return alignment(type);
+        }
+    }
+
+    // "TIMESTAMP(6) WITH TIME ZONE" -> TIMESTAMP / TIMESTAMPTZ, "VARCHAR(20)" -> VARCHAR
+    private static String baseType(String type) {
+        String base = type.replaceAll("\\(.*?\\)", "").trim();
+        if (base.startsWith("TIMESTAMP")) return base.contains("WITH TIME ZONE") ? "TIMESTAMPTZ" : "TIMESTAMP";
+        if (base.startsWith("TIME ")) return "TIME";
+        return base;
+    }
+
+    private static int alignUp(int offset, int align) {
+        return (offset + align - 1) / align * align;
+    }
+}
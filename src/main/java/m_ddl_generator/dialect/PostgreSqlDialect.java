@@ -1,16 +1,42 @@
 package m_ddl_generator.dialect;
 
+import dsl_variable.v2.IndexMethod;
 import dsl_variable.v2.MFieldType;
 import m_ddl_generator.model.ColumnMetadata;
+import m_ddl_generator.model.PartitionMetadata;
+import m_ddl_generator.model.StorageMetadata;
 import m_ddl_generator.model.TableMetadata;
 import utils.LogPrinter;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class PostgreSqlDialect implements SqlDialect {
 
+    // 온라인 DDL: 인덱스는 CONCURRENTLY, 기존 테이블 FK는 NOT VALID 후 VALIDATE
+    private final boolean online;
+    // 컬럼 정렬: CREATE TABLE 컬럼을 정렬 패딩이 최소가 되는 순서로 (PostgreSqlColumnLayout)
+    private final boolean alignColumns;
+
+    public PostgreSqlDialect() {
+        this(false);
+    }
+
+    public PostgreSqlDialect(boolean online) {
+        this(online, false);
+    }
+
+    public PostgreSqlDialect(boolean online, boolean alignColumns) {
+        this.online = online;
+        this.alignColumns = alignColumns;
+    }
+
     @Override
     public String getField(MFieldType fieldType) {
 
@@ -32,15 +58,23 @@ public class PostgreSqlDialect implements SqlDialect {
     }
 
     @Override
-    public String createTableDefinitionSql(TableMetadata table) {
+    public String createTableDefinitionSql(TableMetadata table, Map<String, List<String>> parentFieldTypes, Set<ColumnMetadata> deferredFks) {
         StringBuilder sb = new StringBuilder();
         sb.append("CREATE TABLE IF NOT EXISTS ").append(table.getTableName()).append(" (\n");
 
         List<String> pkColumns = new ArrayList<>();
         List<String> definitions = new ArrayList<>();
+        List<String> constraints = new ArrayList<>();
 
-        for (ColumnMetadata col : table.getColumns()) {
-            if (col.isForeignKey()) continue;
+        for (ColumnMetadata col : physicalColumnOrder(table)) {
+            if (col.isForeignKey()) {
+                // FK 컬럼과 제약조건도 CREATE 안에서 정의 (순환 참조 FK의 제약조건만 나중에 ALTER)
+                definitions.add("\t" + col.getName() + " " + foreignKeyColumnType(col, parentFieldTypes));
+                if (!deferredFks.contains(col)) {
+                    constraints.add("\t" + foreignKeyConstraintSql(table, col));
+                }
+                continue;
+            }
 
             if (col.isContainPrimaryKey()) pkColumns.add(col.getName());
 
@@ -55,11 +89,124 @@ public class PostgreSqlDialect implements SqlDialect {
             sb.append(",\n\tPRIMARY KEY (").append(String.join(", ", pkColumns)).append(")");
         }
 
+        if (!constraints.isEmpty()) {
+            sb.append(",\n").append(String.join(",\n", constraints));
+        }
+
         // [수정] 세미콜론 제거
         sb.append("\n)");
+
+        // 파티션 부모 테이블 (자식 파티션은 createPartitionSql)
+        if (table.isPartitioned()) {
+            PartitionMetadata partition = table.getPartition();
+            sb.append(" PARTITION BY ").append(partition.getType().name()).append(" (").append(partition.getColumn()).append(")");
+        } else {
+            // 파티션 부모 테이블은 저장 파라미터를 가질 수 없음 (자식 파티션에 붙임)
+            sb.append(withClause(table));
+        }
         return sb.toString();
     }
 
+    /**
+     * alignColumns면 정렬 패딩이 최소가 되는 순서, 아니면 선언 순서
+     * (새로 만드는 테이블에만 적용. 기존 테이블의 컬럼 순서는 바꾸지 않음)
+     */
+    private List<ColumnMetadata> physicalColumnOrder(TableMetadata table) {
+        if (!alignColumns) return table.getColumns();
+
+        return PostgreSqlColumnLayout.reorder(table.getColumns());
+    }
+
+    @Override
+    public int columnLayoutSavings(TableMetadata table) {
+        if (!alignColumns) return 0;
+
+        return PostgreSqlColumnLayout.estimateRowWidth(table.getColumns())
+                - PostgreSqlColumnLayout.estimateRowWidth(physicalColumnOrder(table));
+    }
+
+    /**
+     * 자식 파티션: 테이블명_파티션명 (HASH는 테이블명_p0 ...)
+     * RANGE는 앞 파티션의 상한부터(첫 파티션은 MINVALUE) 자기 상한 미만까지
+     */
+    @Override
+    public Map<String, String> createPartitionSql(TableMetadata table) {
+        Map<String, String> sqls = new LinkedHashMap<>();
+        if (!table.isPartitioned()) return sqls;
+
+        PartitionMetadata partition = table.getPartition();
+        String parent = table.getTableName();
+
+        switch (partition.getType()) {
+            case RANGE:
+                String from = "MINVALUE";
+                for (PartitionMetadata.Bound bound : partition.getBounds()) {
+                    String to = bound.getValues().get(0);
+                    String name = parent + "_" + bound.getName();
+                    sqls.put(name, String.format("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM (%s) TO (%s)",
+                            name, parent, from, to) + withClause(table));
+                    from = to;
+                }
+                break;
+            case LIST:
+                for (PartitionMetadata.Bound bound : partition.getBounds()) {
+                    String name = parent + "_" + bound.getName();
+                    sqls.put(name, String.format("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES IN (%s)",
+                            name, parent, String.join(", ", bound.getValues())) + withClause(table));
+                }
+                break;
+            case HASH:
+                for (int i = 0; i < partition.getCount(); i++) {
+                    String name = parent + "_p" + i;
+                    sqls.put(name, String.format("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES WITH (MODULUS %d, REMAINDER %d)",
+                            name, parent, partition.getCount(), i) + withClause(table));
+                }
+                break;
+            default:
+                break;
+        }
+        return sqls;
+    }
+
+    // 저장 파라미터는 PostgreSQL 이름 그대로 (fillfactor, autovacuum_*)
+    @Override
+    public Map<String, String> storageOptions(StorageMetadata storage) {
+        return storage == null ? new LinkedHashMap<>() : new LinkedHashMap<>(storage.getStorageParameters());
+    }
+
+    /**
+     * ALTER TABLE ... SET (...) 은 메타데이터만 바꾸므로(테이블 재작성 없음) ALTER 정책에서도 매번 실행해도 됨
+     * (fillfactor는 이후에 쓰이는 페이지부터 적용)
+     * 파티션 테이블은 자식 파티션마다 적용
+     */
+    @Override
+    public Map<String, String> createAlterStorageSql(TableMetadata table) {
+        Map<String, String> sqls = new LinkedHashMap<>();
+        String options = storageParameterList(table);
+        if (options.isEmpty()) return sqls;
+
+        Collection<String> targets = table.isPartitioned()
+                ? createPartitionSql(table).keySet()
+                : Collections.singletonList(table.getTableName());
+        for (String target : targets) {
+            sqls.put(target, "ALTER TABLE " + target + " SET (" + options + ")");
+        }
+        return sqls;
+    }
+
+    private String withClause(TableMetadata table) {
+        String options = storageParameterList(table);
+        return options.isEmpty() ? "" : " WITH (" + options + ")";
+    }
+
+    private String storageParameterList(TableMetadata table) {
+        List<String> options = new ArrayList<>();
+        for (Map.Entry<String, String> e : storageOptions(table.getStorage()).entrySet()) {
+            options.add(e.getKey() + "=" + e.getValue());
+        }
+        return String.join(", ", options);
+    }
+
     private String buildColumnSql(ColumnMetadata col) {
         StringBuilder sb = new StringBuilder();
         sb.append(col.getName()).append(" ").append(col.getType());
@@ -74,7 +221,7 @@ public class PostgreSqlDialect implements SqlDialect {
         }
 
         if(col.isContainUUIDV7()) {
-            sb.append(" CONSTRAINT " + col.getName() + "_v7_chk CHECK (substring(id::text, 15, 1) = '7')");
+            sb.append(" CONSTRAINT " + col.getName() + "_v7_chk CHECK (substring(" + col.getName() + "::text, 15, 1) = '7')");
         }
 
         return sb.toString();
@@ -85,23 +232,150 @@ public class PostgreSqlDialect implements SqlDialect {
         List<String> sql = new ArrayList<>();
         if (col.isForeignKey()) {
             // 세미콜론 제거
-            sql.add(String.format("ALTER TABLE %s ADD COLUMN %s BIGINT", table.getTableName(), col.getName()));
+            sql.add(String.format("ALTER TABLE %s ADD COLUMN %s %s", table.getTableName(), col.getName(), foreignKeyColumnType(col, parentFieldTypes)));
 
             String constraintName = "fk_" + table.getTableName() + "_" + col.getName();
             sql.add(String.format("ALTER TABLE %s ADD CONSTRAINT %s FOREIGN KEY (%s) REFERENCES %s (%s) ON DELETE %s",
                     table.getTableName(), constraintName, col.getName(),
-                    col.getFkTargetTable(), col.getFkTargetColumn(), col.getOnDeleteAction()));
+                    col.getFkTargetTable(), col.getFkTargetColumn(), col.getOnDeleteAction())
+                    + (online ? " NOT VALID" : ""));
+
+            // 온라인: NOT VALID로 짧게 추가한 뒤 기존 행 검증은 쓰기를 막지 않는 잠금(SHARE UPDATE EXCLUSIVE)으로 수행
+            if (online) {
+                sql.add(String.format("ALTER TABLE %s VALIDATE CONSTRAINT %s", table.getTableName(), constraintName));
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * pg_constraint에 같은 이름의 제약조건이 없을 때만 ADD CONSTRAINT (DO 블록)
+     * 온라인이면 NOT VALID로 추가하고 VALIDATE는 따로 실행 (이미 검증된 제약조건이면 바로 끝남)
+     */
+    @Override
+    public List<String> createForeignKeyConstraintIfNotExistsSql(TableMetadata table, ColumnMetadata col) {
+        List<String> sql = new ArrayList<>();
+        String constraintName = foreignKeyConstraintName(table, col);
+        sql.add("DO $$ BEGIN\n"
+                + "\tIF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = '" + constraintName
+                + "' AND conrelid = '" + table.getTableName() + "'::regclass) THEN\n"
+                + "\t\t" + createForeignKeyConstraintSql(table, col) + (online ? " NOT VALID" : "") + ";\n"
+                + "\tEND IF;\n"
+                + "END $$");
+        if (online) {
+            sql.add(String.format("ALTER TABLE %s VALIDATE CONSTRAINT %s", table.getTableName(), constraintName));
         }
         return sql;
     }
 
+    /**
+     * 온라인: CREATE INDEX CONCURRENTLY (트랜잭션 블록 안에서 실행할 수 없으므로 한 문장씩 따로 실행)
+     * 실패하면 INVALID 인덱스가 남을 수 있음 -> DROP INDEX 후 다시 실행
+     */
+    @Override
+    public List<String> createIndexSql(TableMetadata table) {
+        List<String> sqls = SqlDialect.super.createIndexSql(table);
+        // 파티션 부모 테이블에는 CONCURRENTLY를 쓸 수 없음 (일반 CREATE INDEX로 실행)
+        if (!online || table.isPartitioned()) return sqls;
+
+        List<String> concurrent = new ArrayList<>();
+        for (String sql : sqls) {
+            concurrent.add(sql.replaceFirst("INDEX IF NOT EXISTS ", "INDEX CONCURRENTLY IF NOT EXISTS "));
+        }
+        return concurrent;
+    }
+
+    /**
+     * 접근 방식/연산자 클래스 지정: CREATE INDEX ... ON t USING gin (col jsonb_path_ops)
+     */
+    @Override
+    public String createColumnIndexSql(TableMetadata table, ColumnMetadata col) {
+        if (col.getIndexMethod() == null && col.getIndexOpClass() == null) {
+            return SqlDialect.super.createColumnIndexSql(table, col);
+        }
+
+        String indexName = "idx_" + table.getTableName() + "_" + col.getName();
+        String uniquePart = col.isContainUnique() ? "UNIQUE " : "";
+        String usingPart = col.getIndexMethod() == null ? "" : " USING " + col.getIndexMethod().name().toLowerCase();
+        String keyPart = col.getIndexOpClass() == null ? col.getName() : col.getName() + " " + col.getIndexOpClass();
+
+        return String.format("CREATE %sINDEX IF NOT EXISTS %s ON %s%s (%s)",
+                uniquePart, indexName, table.getTableName(), usingPart, keyPart);
+    }
+
+    /**
+     * 컬럼 타입에 기본 연산자 클래스가 있는 접근 방식인지 검사
+     * - GIN: 기본 연산자 클래스는 JSONB뿐. 스칼라 타입은 btree_gin 확장의 연산자 클래스를 명시해야 함
+     * - GiST: 이 DSL의 타입에는 기본 연산자 클래스가 없음 (스칼라는 btree_gist 확장)
+     * - BRIN: JSONB는 연산자 클래스가 없음
+     * (UNIQUE는 B-tree만 가능 -> MFieldValidator에서 검증. HASH도 단일 컬럼만 가능하지만 컬럼 인덱스는 항상 단일 컬럼)
+     */
+    @Override
+    public String indexMethodError(MFieldType fieldType, IndexMethod method, String opClass) {
+        if (method == null || opClass != null) {
+            return null;
+        }
+        switch (method) {
+            case GIN:
+                return fieldType == MFieldType.JSON
+                        ? null
+                        : "GIN on " + fieldType + " needs an operator class (e.g. from btree_gin or pg_trgm), set indexOpClass";
+            case GIST:
+                return "GiST on " + fieldType + " needs an operator class (e.g. from btree_gist), set indexOpClass";
+            case BRIN:
+                return fieldType == MFieldType.JSON ? "BRIN cannot index JSONB columns" : null;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean isIndexOutsideTransaction() {
+        return online;
+    }
+
     @Override
-    public String createAddColumnIfNotExistsSql(TableMetadata table, ColumnMetadata col) {
-        // buildColumnSql은 "good VARCHAR(255)" 같은 정의 부분을 리턴한다고 가정
-        // [중요] IF NOT EXISTS 위치가 COLUMN 키워드 뒤에 옵니다.
-        return "ALTER TABLE " + table.getTableName() +
-                " ADD COLUMN IF NOT EXISTS " + buildColumnSql(col);
+    public boolean isTransactionalDdl() {
+        return true;
     }
 
+    @Override
+    public List<String> createAddColumnsIfNotExistsSql(TableMetadata table, List<ColumnMetadata> cols) {
+        List<String> sqls = new ArrayList<>();
+        for (ColumnMetadata col : cols) {
+            // buildColumnSql은 "good VARCHAR(255)" 같은 정의 부분을 리턴한다고 가정
+            // [중요] IF NOT EXISTS 위치가 COLUMN 키워드 뒤에 옵니다.
+            sqls.add("ALTER TABLE " + table.getTableName() +
+                    " ADD COLUMN IF NOT EXISTS " + buildColumnSql(col));
+        }
+        return sqls;
+    }
 
-}
\ No newline at end of file
+    @Override
+    public String createAddColumnSql(TableMetadata table, ColumnMetadata col) {
+        return "ALTER TABLE " + table.getTableName() + " ADD COLUMN " + buildColumnSql(col);
+    }
+
+    @Override
+    public String catalogColumnsQuery() {
+        return "SELECT table_name, column_name FROM information_schema.columns WHERE table_schema = current_schema()";
+    }
+
+    @Override
+    public String catalogIndexesQuery() {
+        return "SELECT tablename, indexname FROM pg_indexes WHERE schemaname = current_schema()";
+    }
+
+    @Override
+    public String catalogForeignKeysQuery() {
+        return "SELECT table_name, constraint_name FROM information_schema.table_constraints"
+                + " WHERE table_schema = current_schema() AND constraint_type = 'FOREIGN KEY'";
+    }
+
+    // reloptions는 "fillfactor=80" 형태의 배열 (일반 테이블과 파티션 부모만)
+    @Override
+    public String catalogStorageOptionsQuery() {
+        return "SELECT c.relname, unnest(c.reloptions) FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace"
+                + " WHERE n.nspname = current_schema() AND c.relkind IN ('r', 'p') AND c.reloptions IS NOT NULL";
+    }
+}
@@ -1,39 +1,223 @@
 package m_ddl_generator.dialect;
 
+import dsl_variable.v2.IndexMethod;
 import dsl_variable.v2.MFieldType;
 import m_ddl_generator.model.ColumnMetadata;
+import m_ddl_generator.model.IndexMetadata;
+import m_ddl_generator.model.StorageMetadata;
 import m_ddl_generator.model.TableMetadata;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface SqlDialect {
     String getField(MFieldType fieldType);
 
     List<String> createDropTableSql(TableMetadata table);
-    String createTableDefinitionSql(TableMetadata table);
+    /**
+     * FK 컬럼과 제약조건을 포함한 CREATE TABLE (부모 테이블이 먼저 생성되는 순서로 호출됨)
+     * @param parentFieldTypes 부모 테이블명 -> PK 타입
+     * @param deferredFks 순환 참조라서 제약조건을 나중에 ALTER로 추가할 FK 컬럼 (컬럼 자체는 포함)
+     */
+    String createTableDefinitionSql(TableMetadata table, Map<String, List<String>> parentFieldTypes, Set<ColumnMetadata> deferredFks);
     List<String> createAlterTableSql(TableMetadata table, ColumnMetadata column, HashMap<String, List<String>> parentFieldTypes); // FK 등 추가용
-    String createAddColumnIfNotExistsSql(TableMetadata table, ColumnMetadata col); //update policy
+    String createAddColumnSql(TableMetadata table, ColumnMetadata col); // 컬럼이 없다는 것을 이미 알 때 (스키마 diff)
+
+    /**
+     * 한 테이블의 컬럼들을 "없으면 추가" 합니다. (update policy, 매번 실행됨)
+     */
+    List<String> createAddColumnsIfNotExistsSql(TableMetadata table, List<ColumnMetadata> cols);
+
+    /**
+     * 없는 것이 확인된 컬럼들을 추가합니다. 기본은 컬럼마다 createAddColumnSql.
+     */
+    default List<String> createAddColumnsSql(TableMetadata table, List<ColumnMetadata> cols) {
+        List<String> sqls = new ArrayList<>();
+        for (ColumnMetadata col : cols) {
+            sqls.add(createAddColumnSql(table, col));
+        }
+        return sqls;
+    }
+
+    // --- 스키마 diff용 카탈로그 조회 (현재 스키마 전체를 한 번에, 결과는 (테이블명, 이름) 두 컬럼) ---
+    String catalogColumnsQuery();
+    String catalogIndexesQuery();
+    String catalogForeignKeysQuery();
+    // (테이블명, "옵션=값") - 저장 옵션 비교용
+    String catalogStorageOptionsQuery();
+
+    /**
+     * 이 방언이 적용하는 저장 옵션 (소문자 옵션명 -> 값, 카탈로그의 "옵션=값"과 비교). 기본은 없음
+     * 선언됐지만 여기에 없는 옵션은 이 DB에서 무시됩니다.
+     */
+    default Map<String, String> storageOptions(StorageMetadata storage) {
+        return new LinkedHashMap<>();
+    }
+
+    /**
+     * 선언된 저장 옵션을 기존 테이블에 적용하는 ALTER (옵션이 실제로 붙는 테이블명 -> ALTER 문)
+     */
+    default Map<String, String> createAlterStorageSql(TableMetadata table) {
+        return new LinkedHashMap<>();
+    }
+
+    /**
+     * ALTER 정책용 저장 옵션 ALTER (스키마 diff 없이 매번 실행됨)
+     * 옵션 변경이 테이블 재작성을 일으키는 DB는 이미 같으면 실행하지 않도록 재정의
+     */
+    default List<String> createAlterStorageIfChangedSql(TableMetadata table) {
+        return new ArrayList<>(createAlterStorageSql(table).values());
+    }
+
+    /**
+     * CREATE TABLE 안 또는 ALTER TABLE ... ADD 뒤에 쓰는 FK 제약조건 절
+     */
+    default String foreignKeyConstraintSql(TableMetadata table, ColumnMetadata col) {
+        return String.format("CONSTRAINT %s FOREIGN KEY (%s) REFERENCES %s (%s) ON DELETE %s",
+                foreignKeyConstraintName(table, col), col.getName(),
+                col.getFkTargetTable(), col.getFkTargetColumn(), col.getOnDeleteAction());
+    }
+
+    /**
+     * FK 컬럼 타입은 부모 PK 타입을 따름 (부모 PK를 모르면 메타데이터 타입)
+     */
+    default String foreignKeyColumnType(ColumnMetadata col, Map<String, List<String>> parentFieldTypes) {
+        List<String> types = parentFieldTypes.get(col.getFkTargetTable());
+        if (types != null) {
+            for (String type : types) {
+                if (type != null && !type.isEmpty()) return type;
+            }
+        }
+        return col.getType();
+    }
+
+    default String foreignKeyConstraintName(TableMetadata table, ColumnMetadata col) {
+        return "fk_" + table.getTableName() + "_" + col.getName();
+    }
+
+    default String createForeignKeyConstraintSql(TableMetadata table, ColumnMetadata col) {
+        return "ALTER TABLE " + table.getTableName() + " ADD " + foreignKeyConstraintSql(table, col);
+    }
+
+    /**
+     * ALTER 정책용 FK 제약조건: 이미 있으면 아무것도 하지 않음 (기존 테이블에 새로 생긴 FK, 매번 실행됨)
+     */
+    List<String> createForeignKeyConstraintIfNotExistsSql(TableMetadata table, ColumnMetadata col);
+
+    /**
+     * DROP 정책용: 순환 참조 FK 제약조건이 있으면 테이블 DROP 전에 제거 (자식부터 지우는 순서로는 순환을 풀 수 없음)
+     * DROP TABLE이 참조하는 제약조건까지 지우는 DB(PostgreSQL CASCADE)는 빈 목록
+     */
+    default List<String> createDropForeignKeyIfExistsSql(TableMetadata table, ColumnMetadata col) {
+        return new ArrayList<>();
+    }
+
+    /**
+     * 파티션 테이블의 자식 파티션 (파티션 테이블명 -> CREATE 문, 부모 CREATE TABLE 직후 실행)
+     * 파티션을 CREATE TABLE 안에서 정의하는 DB는 빈 Map
+     */
+    default Map<String, String> createPartitionSql(TableMetadata table) {
+        return new LinkedHashMap<>();
+    }
+
+    /**
+     * 파티션 테이블이 FK를 가지거나 FK로 참조될 수 있는지 (MySQL InnoDB는 불가)
+     */
+    default boolean supportsPartitionForeignKeys() {
+        return true;
+    }
+
+    /**
+     * 인덱스 생성문을 트랜잭션 밖에서 한 문장씩 실행해야 하는지 (PostgreSQL CREATE INDEX CONCURRENTLY)
+     * true면 인덱스는 메인 스크립트에 넣지 않고 별도 문장으로 실행합니다.
+     */
+    default boolean isIndexOutsideTransaction() {
+        return false;
+    }
+
+    /**
+     * DDL을 트랜잭션 안에서 실행하고 롤백할 수 있는지 (PostgreSQL)
+     * false면 DDL마다 암묵적으로 커밋되므로 세이브포인트로 되돌릴 수 없습니다. (MySQL)
+     */
+    default boolean isTransactionalDdl() {
+        return false;
+    }
+
+    /**
+     * CREATE TABLE 컬럼 순서 조정으로 줄어드는 행당 바이트 추정치 (모든 컬럼 non-null 기준). 순서를 바꾸지 않으면 0
+     */
+    default int columnLayoutSavings(TableMetadata table) {
+        return 0;
+    }
+
     default List<String> createIndexSql(TableMetadata table) {
         List<String> sqls = new ArrayList<>();
 
         for (ColumnMetadata col : table.getColumns()) {
             // 인덱스 or 유니크 설정이 있으면 생성
             if (col.isContainIndexed() || col.isContainUnique()) {
-                String indexName = "idx_" + table.getTableName() + "_" + col.getName();
+                sqls.add(createColumnIndexSql(table, col));
+            }
+        }
 
-                // UNIQUE 키워드 처리 (뒤에 공백 포함)
-                String uniquePart = col.isContainUnique() ? "UNIQUE " : "";
+        // 복합/커버링 인덱스 (@MEntity(indexes = ...))
+        for (IndexMetadata index : table.getIndexes()) {
+            sqls.add(createIndexSql(table, index));
+        }
+        return sqls;
+    }
 
-                // [핵심 수정] INDEX 뒤에 'IF NOT EXISTS' 추가
-                // 문법: CREATE [UNIQUE] INDEX IF NOT EXISTS [인덱스명] ON [테이블명] ([컬럼명])
-                String sql = String.format("CREATE %sINDEX IF NOT EXISTS %s ON %s (%s)",
-                        uniquePart, indexName, table.getTableName(), col.getName());
+    /**
+     * 단일 컬럼 인덱스 한 개 (접근 방식/연산자 클래스는 방언이 재정의해서 처리)
+     */
+    default String createColumnIndexSql(TableMetadata table, ColumnMetadata col) {
+        String indexName = "idx_" + table.getTableName() + "_" + col.getName();
 
-                sqls.add(sql);
-            }
+        // UNIQUE 키워드 처리 (뒤에 공백 포함)
+        String uniquePart = col.isContainUnique() ? "UNIQUE " : "";
+
+        // [핵심 수정] INDEX 뒤에 'IF NOT EXISTS' 추가
+        // 문법: CREATE [UNIQUE] INDEX IF NOT EXISTS [인덱스명] ON [테이블명] ([컬럼명])
+        return String.format("CREATE %sINDEX IF NOT EXISTS %s ON %s (%s)",
+                uniquePart, indexName, table.getTableName(), col.getName());
+    }
+
+    /**
+     * 인덱스 접근 방식/연산자 클래스를 이 방언에서 만들 수 없으면 이유, 가능하면 null
+     * (MFieldValidator가 소스 위치와 함께 오류로 보고)
+     */
+    default String indexMethodError(MFieldType fieldType, IndexMethod method, String opClass) {
+        if (method != null && method != IndexMethod.BTREE) {
+            return "Index method " + method + " is not supported by this database";
         }
-        return sqls;
+        return opClass != null ? "Index operator classes are not supported by this database" : null;
+    }
+
+    /**
+     * 복합 인덱스에 INCLUDE (...) 절을 쓸 수 있는지 (없으면 커버링 컬럼을 키 뒤에 붙이므로 UNIQUE 인덱스에는 못 씀)
+     */
+    default boolean supportsIndexInclude() {
+        return true;
+    }
+
+    /**
+     * 복합 인덱스 한 개: 키 컬럼 순서/정렬 방향 + 커버링 컬럼 INCLUDE (...)
+     */
+    default String createIndexSql(TableMetadata table, IndexMetadata index) {
+        List<String> keys = new ArrayList<>();
+        for (IndexMetadata.IndexColumn col : index.getColumns()) {
+            keys.add(col.toSql());
+        }
+
+        String includePart = index.getIncludeColumns().isEmpty()
+                ? ""
+                : " INCLUDE (" + String.join(", ", index.getIncludeColumns()) + ")";
+
+        return String.format("CREATE %sINDEX IF NOT EXISTS %s ON %s (%s)%s",
+                index.isUnique() ? "UNIQUE " : "", index.getName(), table.getTableName(), String.join(", ", keys), includePart);
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package m_ddl_generator.diff;
+
+import m_ddl_generator.dialect.SqlDialect;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 대상 DB 현재 스키마의 테이블/컬럼/인덱스/FK 이름 목록과 테이블 저장 옵션("옵션=값").
+ * 방언별 information_schema(카탈로그) 쿼리 4개로 스키마 전체를 한 번에 읽습니다.
+ * (테이블/컬럼마다 존재 여부를 묻지 않으므로 컬럼 수와 무관하게 왕복 횟수가 일정)
+ *
+ * 이름은 소문자로 비교합니다. (PostgreSQL은 따옴표 없는 식별자를 소문자로, MySQL은 OS에 따라 대소문자 구분)
+ */
+public class CatalogSnapshot {
+
+    // 테이블명 -> 이름 집합
+    private final Map<String, Set<String>> columns = new TreeMap<>();
+    private final Map<String, Set<String>> indexes = new TreeMap<>();
+    private final Map<String, Set<String>> foreignKeys = new TreeMap<>();
+    private final Map<String, Set<String>> storageOptions = new TreeMap<>();
+
+    private CatalogSnapshot() {
+    }
+
+    public static CatalogSnapshot read(Connection connection, SqlDialect dialect) throws SQLException {
+        CatalogSnapshot snapshot = new CatalogSnapshot();
+        try (Statement stmt = connection.createStatement()) {
+            load(stmt, dialect.catalogColumnsQuery(), snapshot.columns);
+            load(stmt, dialect.catalogIndexesQuery(), snapshot.indexes);
+            load(stmt, dialect.catalogForeignKeysQuery(), snapshot.foreignKeys);
+            load(stmt, dialect.catalogStorageOptionsQuery(), snapshot.storageOptions);
+        }
+        return snapshot;
+    }
+
+    private static void load(Statement stmt, String query, Map<String, Set<String>> target) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(query)) {
+            while (rs.next()) {
+                target.computeIfAbsent(key(rs.getString(1)), k -> new TreeSet<>()).add(key(rs.getString(2)));
+            }
+        }
+    }
+
+    public boolean hasTable(String table) {
+        return columns.containsKey(key(table));
+    }
+
+    public boolean hasColumn(String table, String column) {
+        return contains(columns, table, column);
+    }
+
+    public boolean hasIndex(String table, String index) {
+        return contains(indexes, table, index);
+    }
+
+    public boolean hasForeignKey(String table, String constraint) {
+        return contains(foreignKeys, table, constraint);
+    }
+
+    /**
+     * @param option "옵션=값" (예: fillfactor=80, row_format=compressed)
+     */
+    public boolean hasStorageOption(String table, String option) {
+        return contains(storageOptions, table, option);
+    }
+
+    private static boolean contains(Map<String, Set<String>> names, String table, String name) {
+        Set<String> set = names.get(key(table));
+        return set != null && set.contains(key(name));
+    }
+
+    private static String key(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+}
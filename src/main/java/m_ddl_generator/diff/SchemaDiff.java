@@ -0,0 +1,147 @@
+package m_ddl_generator.diff;
+
+import m_ddl_generator.dialect.SqlDialect;
+import m_ddl_generator.generator.ForeignKeyGenerator;
+import m_ddl_generator.model.ColumnMetadata;
+import m_ddl_generator.model.IndexMetadata;
+import m_ddl_generator.model.TableMetadata;
+import m_ddl_generator.plan.DdlStatement;
+import m_ddl_generator.plan.DdlStatement.Kind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 엔티티 메타데이터(TableMetadata)와 대상 DB 스냅샷(CatalogSnapshot)을 비교해서
+ * 실제로 없는 테이블/컬럼/FK/인덱스와 값이 다른 저장 옵션에 대한 DDL만 만듭니다.
+ * (ALTER 정책의 "컬럼마다 존재 확인" 스크립트 대신 사용)
+ */
+public class SchemaDiff {
+
+    private final List<DdlStatement> createTables = new ArrayList<>();
+    private final List<DdlStatement> addColumns = new ArrayList<>();
+    private final List<DdlStatement> storage = new ArrayList<>();
+    private final List<DdlStatement> foreignKeys = new ArrayList<>();
+    private final List<DdlStatement> indexes = new ArrayList<>();
+
+    private SchemaDiff() {
+    }
+
+    public static SchemaDiff compare(List<TableMetadata> tables, CatalogSnapshot catalog, SqlDialect dialect) {
+        SchemaDiff diff = new SchemaDiff();
+
+        // 부모 테이블이 먼저 만들어지도록 FK 위상 순서로 비교
+        ForeignKeyGenerator foreignKeyOrder = new ForeignKeyGenerator(dialect, tables);
+        Set<ColumnMetadata> deferred = foreignKeyOrder.getDeferred();
+
+        for (TableMetadata table : foreignKeyOrder.getCreationOrder()) {
+            String tableName = table.getTableName();
+            boolean exists = catalog.hasTable(tableName);
+
+            // 1. 테이블이 없으면 FK까지 포함해서 CREATE (순환 참조 FK 제약조건만 아래에서 ALTER)
+            if (!exists) {
+                diff.createTables.add(new DdlStatement(Kind.CREATE_TABLE, tableName,
+                        dialect.createTableDefinitionSql(table, foreignKeyOrder.parentFieldTypes(table), deferred),
+                        foreignKeyOrder.inlineParents(table), false));
+            }
+
+            // 1-1. 없는 자식 파티션 (PostgreSQL은 파티션도 카탈로그에 테이블로 보임)
+            for (Map.Entry<String, String> partition : dialect.createPartitionSql(table).entrySet()) {
+                if (!catalog.hasTable(partition.getKey())) {
+                    diff.createTables.add(new DdlStatement(Kind.CREATE_PARTITION, partition.getKey(), partition.getValue(),
+                            Collections.singleton(tableName), false));
+                }
+            }
+
+            List<ColumnMetadata> missingColumns = new ArrayList<>();
+            List<ColumnMetadata> missingIndexes = new ArrayList<>();
+
+            for (ColumnMetadata col : table.getColumns()) {
+                boolean columnExists = exists && catalog.hasColumn(tableName, col.getName());
+
+                if (col.isForeignKey() && !exists) {
+                    // 2-1. 새 테이블: 순환 참조 FK만 모든 CREATE 이후에 추가
+                    if (deferred.contains(col)) {
+                        diff.foreignKeys.add(foreignKey(tableName, col, dialect.createForeignKeyConstraintSql(table, col)));
+                    }
+                } else if (col.isForeignKey()) {
+                    // 2-2. 기존 테이블 FK: createAlterTableSql은 [컬럼 추가, 제약조건 추가(, 온라인 검증)] 순서로 반환
+                    List<String> fkSqls = dialect.createAlterTableSql(table, col, foreignKeyOrder.parentFieldTypes(table));
+                    if (!columnExists && !fkSqls.isEmpty()) {
+                        diff.foreignKeys.add(foreignKey(tableName, col, fkSqls.get(0)));
+                    }
+                    if (fkSqls.size() > 1 && !catalog.hasForeignKey(tableName, dialect.foreignKeyConstraintName(table, col))) {
+                        for (String sql : fkSqls.subList(1, fkSqls.size())) {
+                            diff.foreignKeys.add(foreignKey(tableName, col, sql));
+                        }
+                    }
+                } else if (exists && !columnExists) {
+                    // 3. 기존 테이블에 없는 컬럼 (테이블 단위로 모아서 추가)
+                    missingColumns.add(col);
+                }
+
+                // 4. 인덱스 (이름 규칙은 SqlDialect.createIndexSql과 동일)
+                if ((col.isContainIndexed() || col.isContainUnique())
+                        && !(exists && catalog.hasIndex(tableName, "idx_" + tableName + "_" + col.getName()))) {
+                    missingIndexes.add(col);
+                }
+            }
+
+            if (!missingColumns.isEmpty()) {
+                for (String sql : dialect.createAddColumnsSql(table, missingColumns)) {
+                    diff.addColumns.add(new DdlStatement(Kind.ADD_COLUMN, tableName, sql));
+                }
+            }
+
+            // 3-1. 저장 옵션: 기존 테이블(파티션)에 선언한 값이 하나라도 없으면 ALTER (새 테이블은 CREATE에 포함)
+            Map<String, String> storageOptions = dialect.storageOptions(table.getStorage());
+            for (Map.Entry<String, String> alter : dialect.createAlterStorageSql(table).entrySet()) {
+                String target = alter.getKey();
+                if (!catalog.hasTable(target)) continue;
+
+                boolean changed = storageOptions.entrySet().stream()
+                        .anyMatch(e -> !catalog.hasStorageOption(target, e.getKey() + "=" + e.getValue()));
+                if (changed) {
+                    diff.storage.add(new DdlStatement(Kind.ALTER_STORAGE, target, alter.getValue()));
+                }
+            }
+            // 5. 복합/커버링 인덱스 (이름으로 비교)
+            List<IndexMetadata> missingTableIndexes = new ArrayList<>();
+            for (IndexMetadata index : table.getIndexes()) {
+                if (!(exists && catalog.hasIndex(tableName, index.getName()))) {
+                    missingTableIndexes.add(index);
+                }
+            }
+
+            if (!missingIndexes.isEmpty() || !missingTableIndexes.isEmpty()) {
+                for (String sql : dialect.createIndexSql(new TableMetadata(tableName, missingIndexes, missingTableIndexes, table.getPartition()))) {
+                    diff.indexes.add(new DdlStatement(Kind.CREATE_INDEX, tableName, sql,
+                            Collections.emptySet(), dialect.isIndexOutsideTransaction()));
+                }
+            }
+        }
+
+        return diff;
+    }
+
+    private static DdlStatement foreignKey(String tableName, ColumnMetadata col, String sql) {
+        return new DdlStatement(Kind.ADD_FOREIGN_KEY, tableName, sql, Collections.singleton(col.getFkTargetTable()), false);
+    }
+
+    public List<DdlStatement> getCreateTables() { return createTables; }
+    public List<DdlStatement> getAddColumns() { return addColumns; }
+    public List<DdlStatement> getStorage() { return storage; }
+    public List<DdlStatement> getForeignKeys() { return foreignKeys; }
+    public List<DdlStatement> getIndexes() { return indexes; }
+
+    public boolean isEmpty() {
+        return createTables.isEmpty() && addColumns.isEmpty() && storage.isEmpty() && foreignKeys.isEmpty() && indexes.isEmpty();
+    }
+
+    public int size() {
+        return createTables.size() + addColumns.size() + storage.size() + foreignKeys.size() + indexes.size();
+    }
+}
@@ -1,22 +1,19 @@
 package m_ddl_generator.generator;
 
 import auto_ddl.AutoDDLPolicy;
+import config.AppConfig;
+import m_ddl_generator.diff.CatalogSnapshot;
+import m_ddl_generator.diff.SchemaDiff;
 import m_ddl_generator.dialect.SqlDialect;
 import m_ddl_generator.model.TableMetadata;
 import m_ddl_generator.parser.MetadataLoader;
+import m_ddl_generator.plan.DdlBatchExecutor;
+import m_ddl_generator.plan.DdlPlan;
+import m_ddl_generator.plan.DdlStatement;
+import m_ddl_generator.plan.ParallelDdlExecutor;
+import m_ddl_generator.plan.SavepointDdlExecutor;
 import m_ddl_generator.writer.DdlWriter;
-import org.apache.ibatis.builder.StaticSqlSource;
-import org.apache.ibatis.datasource.pooled.PooledDataSource;
-import org.apache.ibatis.mapping.Environment;
-import org.apache.ibatis.mapping.MappedStatement;
-import org.apache.ibatis.mapping.SqlCommandType;
-import org.apache.ibatis.mapping.SqlSource;
-import org.apache.ibatis.session.Configuration;
-import org.apache.ibatis.session.SqlSession;
-import org.apache.ibatis.session.SqlSessionFactory;
-import org.apache.ibatis.session.SqlSessionFactoryBuilder;
-import org.apache.ibatis.transaction.TransactionFactory;
-import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import utils.JpmOptionsLoader;
 import utils.LogPrinter;
 
@@ -27,11 +24,14 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.function.IntConsumer;
 
 public class AutoDDLGenerator {
     private final MetadataLoader loader;
@@ -42,9 +42,18 @@ public class AutoDDLGenerator {
     // 상수 정의
     private static final String AUTO_EXECUTOR_PACKAGE = "m_ddl_generator.executor";
     private static final String EXECUTOR_CLASS_NAME = "JpmAutoSQLExecutor";
+    // ddlParallelism 상한 (동시에 여는 DB 커넥션 수)
+    private static final int MAX_DDL_PARALLELISM = 32;
+
+    private static class ConnectionInfo {
+        String driverClass;
+        String url;
+        String username;
+        String password;
+    }
 
     public static class GeneratorCommand {
-        public String sql;
+        public DdlPlan plan;
         public String url;
         public String username;
         public String password;
@@ -74,42 +83,48 @@ public class AutoDDLGenerator {
             List<TableMetadata> tables = loader.load(null);
             if (tables.isEmpty()) return;
 
-            // 1-2. SQL 생성
-
-            String finalSql = buildSql(tables);
-
-            // 1-3. XML 파일 기록
-            writer.write(finalSql);
-
-
-
-            String cleanedSql = finalSql
-                    .replace("<![CDATA[", "")  // 시작 태그 삭제
-                    .replace("]]>", "");        // 끝 태그 삭제
-
-            // 1-4. DB 연결 옵션 가져오기
+            // 1-2. DB 연결 옵션 가져오기
             Map<String, String> options = JpmOptionsLoader.loadOptions(processingEnv);
-            validateOptions(options);
-
-            // 1-5. 즉시 DDL 실행 (실패 시 여기서 중단됨)
-
 
             String auto = options.get("auto");
             boolean isCreateExec = AutoDDLPolicy.CREATE_N_EXE.name().equals(auto);
             boolean isDropExec   = AutoDDLPolicy.DROP_N_CREATE_EXE.name().equals(auto);
             boolean isAlterExec  = AutoDDLPolicy.ALTER_N_EXE.name().equals(auto);
 
-
-// 3. 하나라도 해당되면 '실행해야 하는 상태'로 판단
+            // 하나라도 해당되면 '실행해야 하는 상태'로 판단
             boolean shouldExecute = isCreateExec || isDropExec || isAlterExec;
 
-            if(shouldExecute)
+            // 1-3. DDL 계획 생성 (문장 단위, 트랜잭션 밖에서 실행할 문장은 isOutsideTransaction으로 구분)
+            //      ddl.xml / Executor에 들어가는 계획은 항상 전체 (어떤 DB 상태에서 실행해도 되도록 "없으면 생성")
+            DdlScriptBuilder scriptBuilder = new DdlScriptBuilder(this.options);
+            DdlPlan plan = scriptBuilder.build(tables);
+            logColumnLayoutSavings(tables);
+
+            // 1-4. 스키마 diff (ALTER_N_EXE): 지금 바로 실행할 문장만 대상 DB에 실제로 없는 것으로 줄임
+            CatalogSnapshot catalog = isSchemaDiffEnabled(auto, options) ? readCatalog(options) : null;
+            SchemaDiff diff = catalog == null ? null : SchemaDiff.compare(tables, catalog, AppConfig.getSqlDialectImpl());
+            DdlPlan executePlan = plan;
+            if (diff != null) {
+                logNote("🔍 [JPM] Schema diff: " + diff.size() + " statement(s) needed.");
+                executePlan = scriptBuilder.build(diff);
+            }
+
+            // 1-5. XML 파일 기록
+            writer.write(plan);
+
+            validateOptions(options);
+
+            // 1-6. 즉시 DDL 실행 (실패 시 여기서 중단됨)
+            if (shouldExecute && diff != null && diff.isEmpty()) {
+                logNote("✅ [JPM] Database schema is already up to date.");
+            }
+            else if(shouldExecute)
             {
-                executeImmediateDdl(cleanedSql, options);
+                executeImmediateDdl(executePlan, options);
             }
-            // 1-6. Executor 소스 코드 생성
 
-            GeneratorCommand cmd = createCommand(cleanedSql, options);
+            // 1-7. Executor 소스 코드 생성
+            GeneratorCommand cmd = createCommand(plan, options);
 
             generateExecutorSource(cmd);
 
@@ -121,11 +136,6 @@ public class AutoDDLGenerator {
     // ===================================================================================
     // 2. Helper Methods for Logic
     // ===================================================================================
-    private String buildSql(List<TableMetadata> tables) {
-
-        return new DdlScriptBuilder(options).build(tables);
-    }
-
     private void validateOptions(Map<String, String> options) {
         if (options.get("url") == null || options.get("username") == null) {
             throw new RuntimeException("DB Connection options (url, username) are missing.");
@@ -138,9 +148,9 @@ public class AutoDDLGenerator {
                 : "com.mysql.cj.jdbc.Driver";
     }
 
-    private GeneratorCommand createCommand(String sql, Map<String, String> options) {
+    private GeneratorCommand createCommand(DdlPlan plan, Map<String, String> options) {
         GeneratorCommand cmd = new GeneratorCommand();
-        cmd.sql = sql;
+        cmd.plan = plan;
         cmd.url = options.get("url");
         cmd.username = options.get("username");
         cmd.password = options.get("password");
@@ -149,9 +159,42 @@ public class AutoDDLGenerator {
         return cmd;
     }
 
-    private void executeImmediateDdl(String sql, Map<String, String> options) throws Exception {
-        logNote("🚀 Executing Generated DDL (Using application.properties keys)...");
+    /**
+     * 스키마 diff 사용 여부 (schemaDiff 옵션, ALTER_N_EXE에서 기본 사용. schemaDiff=false로 끔)
+     * diff는 컴파일 시점 실행에만 쓰이고 ddl.xml / Executor에는 항상 전체 계획이 들어감
+     * (그 외 정책은 컴파일 시점에 실행하지 않으므로 사용하지 않음)
+     */
+    private boolean isSchemaDiffEnabled(String auto, Map<String, String> options) {
+        if (!AutoDDLPolicy.ALTER_N_EXE.name().equals(auto)) return false;
+
+        String value = options.get("schemaDiff");
+        if (value == null || value.isEmpty()) return true;
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * 대상 DB의 카탈로그를 한 번에 읽습니다. 접속할 수 없으면 null (기존 "존재하면 건너뛰기" 스크립트로 대체)
+     */
+    private CatalogSnapshot readCatalog(Map<String, String> options) {
+        try {
+            ConnectionInfo info = resolveConnectionInfo(options);
+            if (info == null) return null;
+
+            try (Connection connection = new UnpooledDataSource(info.driverClass, info.url, info.username, info.password).getConnection()) {
+                return CatalogSnapshot.read(connection, AppConfig.getSqlDialectImpl());
+            }
+        } catch (Exception e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "[JPM] Schema diff skipped (catalog read failed): " + e.getMessage());
+            return null;
+        }
+    }
 
+    /**
+     * DB 접속 정보 (application.properties 값이 있으면 우선, 없으면 컴파일 옵션)
+     * @return projectDir 옵션이 없으면 null
+     */
+    private ConnectionInfo resolveConnectionInfo(Map<String, String> options) {
         Properties props = new Properties();
         // src/main/resources/application.properties 파일을 읽어옵니다.
 
@@ -159,7 +202,7 @@ public class AutoDDLGenerator {
 
         if (projectDir == null || projectDir.isEmpty()) {
             logNote("⚠️ projectDir 옵션이 없습니다. 기본 옵션값만 사용합니다.");
-            return;
+            return null;
         }
 
 
@@ -180,56 +223,134 @@ public class AutoDDLGenerator {
             logError("파일 로드 중 오류: " + e.getMessage());
         }
 
+        ConnectionInfo info = new ConnectionInfo();
         // MyBatis/Spring에서 흔히 사용하는 설정 키값으로 매핑
-        String url = props.getProperty("spring.datasource.url", options.get("url"));
-        String username = props.getProperty("spring.datasource.username", options.get("username"));
-        String password = props.getProperty("spring.datasource.password", options.get("password"));
+        info.url = props.getProperty("spring.datasource.url", options.get("url"));
+        info.username = props.getProperty("spring.datasource.username", options.get("username"));
+        info.password = props.getProperty("spring.datasource.password", options.get("password"));
 
         // DB 타입도 관습에 따라 driver-class-name으로 가져오거나 기존 옵션 사용
-        String driverClass = props.getProperty("spring.datasource.driver-class-name",
+        info.driverClass = props.getProperty("spring.datasource.driver-class-name",
                 getDriverClassName(options.getOrDefault("dbType", "POSTGRES")));
 
-        if (url == null || username == null) {
+        if (info.url == null || info.username == null) {
             throw new RuntimeException("DB 접속 정보(url, username)가 설정 파일이나 옵션에 누락되었습니다.");
         }
+        return info;
+    }
 
-        try {
-            // PooledDataSource 설정
-            PooledDataSource ds = new PooledDataSource(driverClass, url, username, password);
-
-            // MyBatis 핵심 설정
-            TransactionFactory transactionFactory = new JdbcTransactionFactory();
-            Environment environment = new Environment("compile_time_runner", transactionFactory, ds);
-            Configuration config = new Configuration(environment);
-            SqlSessionFactory factory = new SqlSessionFactoryBuilder().build(config);
-
-            try (SqlSession session = factory.openSession()) {
-                String tempStatementId = "ImmediateDDLRun";
-                SqlSource sqlSource = new StaticSqlSource(config, sql);
-                MappedStatement ms = new MappedStatement.Builder(config, tempStatementId, sqlSource, SqlCommandType.UPDATE).build();
-                config.addMappedStatement(ms);
-
-                session.update(tempStatementId);
-                session.commit();
-                logNote("✅ [MyBatis] DDL 실행 성공!");
+    private void executeImmediateDdl(DdlPlan plan, Map<String, String> options) throws Exception {
+        logNote("🚀 Executing Generated DDL (Using application.properties keys)...");
+
+        ConnectionInfo info = resolveConnectionInfo(options);
+        if (info == null) {
+            return;
+        }
+
+        UnpooledDataSource dataSource = new UnpooledDataSource(info.driverClass, info.url, info.username, info.password);
+
+        // atomicDdl=true: 트랜잭션 DDL을 지원하면 한 트랜잭션 + 테이블 단위 세이브포인트로 적용
+        if (Boolean.parseBoolean(options.getOrDefault("atomicDdl", "false").trim())) {
+            if (AppConfig.getSqlDialectImpl().isTransactionalDdl()) {
+                executeAtomicDdl(dataSource, plan);
+                return;
+            }
+            // MySQL은 DDL마다 암묵적으로 커밋되므로 되돌릴 수 없음 -> 아래 순차(배치) 실행으로 대체
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "[JPM] atomicDdl ignored: " + options.getOrDefault("dbType", "MYSQL")
+                            + " commits implicitly after each DDL statement. Falling back to sequential execution; statements applied before a failure stay applied.");
+        }
+
+        // ddlParallelism > 1: FK 의존 관계를 따라 서로 관계없는 테이블을 여러 커넥션에서 동시에 실행
+        int parallelism = parseDdlParallelism(options.get("ddlParallelism"));
+        if (parallelism > 1) {
+            try {
+                new ParallelDdlExecutor(dataSource, parallelism).execute(plan);
+                logNote("✅ [JDBC] DDL 실행 성공! (" + plan.size() + " statements, parallelism " + parallelism + ")");
+            } catch (Exception e) {
+                logError("❌ [JDBC] DDL 실행 실패: " + e.getMessage());
+                throw e;
             }
+            return;
+        }
+
+        // ddlBatchSize: 한 번에 전송할 문장 수 (1이면 문장마다 실행)
+        DdlBatchExecutor batch = new DdlBatchExecutor(parseDdlBatchSize(options.get("ddlBatchSize")));
+        int total = plan.size();
+
+        try (Connection connection = dataSource.getConnection()) {
+            // 1. 메인 문장: 청크 단위 실행
+            //    트랜잭션 DDL(PostgreSQL)은 한 트랜잭션으로 묶어 실패하면 되돌림
+            //    MySQL DDL은 문장마다 암묵적으로 커밋되어 되돌릴 수 없으므로 autocommit 그대로 실행 (실패 전 문장은 적용된 채 남음)
+            List<DdlStatement> transactional = plan.getTransactional();
+            IntConsumer progress = done -> logNote("⏳ [JDBC] " + done + "/" + total + " statements");
+            if (AppConfig.getSqlDialectImpl().isTransactionalDdl()) {
+                connection.setAutoCommit(false);
+                try {
+                    batch.execute(connection, transactional, progress);
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                }
+                connection.setAutoCommit(true);
+            } else {
+                batch.execute(connection, transactional, progress);
+            }
+
+            // 2. 트랜잭션 밖에서 실행해야 하는 문장 (CREATE INDEX CONCURRENTLY): 배치도 하나의 트랜잭션 블록이 되므로 한 문장씩
+            new DdlBatchExecutor(1).execute(connection, plan.getStandalone(),
+                    done -> logNote("⏳ [JDBC] " + (transactional.size() + done) + "/" + total + " statements"));
+
+            logNote("✅ [JDBC] DDL 실행 성공! (" + plan.size() + " statements)");
         } catch (Exception e) {
-            logError("❌ [MyBatis] DDL 실행 실패: " + e.getMessage());
+            logError("❌ [JDBC] DDL 실행 실패: " + e.getMessage());
             throw e;
         }
     }
 
+    /**
+     * 계획 전체를 한 트랜잭션으로 적용하고 마지막에 한 번 커밋합니다.
+     * 재시도 후에도 실패한 테이블은 되돌린 채 경고로 알리고, 나머지는 그대로 커밋됩니다. (다음 빌드의 schemaDiff가 실패분만 다시 생성)
+     */
+    private void executeAtomicDdl(UnpooledDataSource dataSource, DdlPlan plan) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            List<SQLException> failures = new SavepointDdlExecutor().execute(connection, plan);
+            for (SQLException failure : failures) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "[JPM] DDL rolled back to savepoint: " + failure.getMessage());
+            }
+            logNote("✅ [JDBC] DDL committed in one transaction (" + plan.size() + " statements, " + failures.size() + " failed)");
+        } catch (Exception e) {
+            logError("❌ [JDBC] DDL 실행 실패 (전체 롤백): " + e.getMessage());
+            throw e;
+        }
+    }
 
+    // DB 작업이므로 코어 수가 아니라 커넥션 수 기준으로 제한 (잘못된 값이면 기존처럼 순차 실행)
+    private static int parseDdlParallelism(String value) {
+        if (value == null || value.isEmpty()) return 1;
+        try {
+            return Math.max(1, Math.min(Integer.parseInt(value.trim()), MAX_DDL_PARALLELISM));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
 
-
+    private static int parseDdlBatchSize(String value) {
+        if (value == null || value.isEmpty()) return DdlBatchExecutor.DEFAULT_BATCH_SIZE;
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return DdlBatchExecutor.DEFAULT_BATCH_SIZE;
+        }
+    }
 
     // ===================================================================================
     // 3. Source Code Generation (Writer)
     // ===================================================================================
     private void generateExecutorSource(GeneratorCommand cmd) throws IOException {
         try {
-            ExecutorSourceWriter execute = new JpmExecutorSourceWriter(processingEnv);
-            execute.write(AUTO_EXECUTOR_PACKAGE, EXECUTOR_CLASS_NAME, cmd);
+            executorWriter.write(AUTO_EXECUTOR_PACKAGE, EXECUTOR_CLASS_NAME, cmd);
         } catch (Exception e) {
             logError("Executor 소스 생성 실패: " + e.getMessage());
         }
@@ -239,6 +360,19 @@ public class AutoDDLGenerator {
     // ===================================================================================
     // 4. Utility Methods
     // ===================================================================================
+    /**
+     * alignColumns: 컬럼 순서 조정으로 줄어드는 행 크기를 테이블마다 한 번 알림
+     */
+    private void logColumnLayoutSavings(List<TableMetadata> tables) {
+        SqlDialect dialect = AppConfig.getSqlDialectImpl();
+        for (TableMetadata table : tables) {
+            int saved = dialect.columnLayoutSavings(table);
+            if (saved > 0) {
+                logNote(String.format("📐 [JPM] %s column layout saves ~%d bytes per row (all columns non-null)", table.getTableName(), saved));
+            }
+        }
+    }
+
     private void logNote(String msg) {
         processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, msg);
     }
@@ -2,18 +2,18 @@ package m_ddl_generator.generator;
 
 import auto_ddl.AutoDDLPolicy;
 import config.AppConfig;
+import m_ddl_generator.diff.SchemaDiff;
 import m_ddl_generator.dialect.SqlDialect;
 
-import m_ddl_generator.model.ColumnMetadata;
 import m_ddl_generator.model.TableMetadata;
-import utils.LogPrinter;
+import m_ddl_generator.plan.DdlPlan;
+import m_ddl_generator.plan.DdlStatement;
+import m_ddl_generator.plan.DdlStatement.Kind;
 
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class DdlScriptBuilder {
 
@@ -29,35 +29,49 @@ public class DdlScriptBuilder {
     }
 
     /**
-     * [Public] 전체 DDL 스크립트 생성 (Main Method)
+     * [Public] 전체 DDL 계획 생성 (Main Method)
      */
-    public String build(List<TableMetadata> tables) {
+    public DdlPlan build(List<TableMetadata> tables) {
 
-        StringBuilder sb = new StringBuilder();
+        DdlPlan plan = new DdlPlan();
 
-        sb.append("<![CDATA[\n");
+        // FK 의존 관계로 생성 순서를 먼저 정함 (부모 -> 자식)
+        ForeignKeyGenerator foreignKeys = new ForeignKeyGenerator(dialect, tables);
 
-        // 1. 테이블 삭제 및 생성 (DROP & CREATE)
-        buildDropAndCreate(sb, tables);
+        // 1. 테이블 삭제 및 생성 (DROP & CREATE, FK는 CREATE 안에 포함)
+        buildDropAndCreate(plan, foreignKeys);
 
 
 
         // 2. 컬럼 추가 (ALTER - UPDATE 정책일 때만)
-        buildAddColumns(sb, tables);
+        buildAddColumns(plan, tables);
 
         // 3. 외래키 제약조건 (FK)
-        new ForeignKeyGenerator(dialect, tables).generate(sb);
-      /*  buildForeignKeys(sb, tables);*/
+        //    DROP 정책: 순환 참조라서 CREATE 안에 넣지 못한 것만
+        //    그 외: 기존 테이블에 추가된 FK 컬럼도 제약조건이 필요하므로 전부 "없으면 추가"
+        if (isDropPolicy()) {
+            foreignKeys.generate(plan);
+        } else {
+            foreignKeys.generateIfNotExists(plan);
+        }
 
         // 4. 인덱스 생성 (INDEX)
-        buildIndexes(sb, tables);
-
-
+        buildIndexes(plan, tables);
 
+        return plan;
+    }
 
-        sb.append("]]>");
-
-        return sb.toString();
+    /**
+     * [Public] 스키마 diff 결과로 DDL 계획 생성 (대상 DB에 실제로 없는 것만 포함)
+     */
+    public DdlPlan build(SchemaDiff diff) {
+
+        return new DdlPlan()
+                .addAll(diff.getCreateTables())
+                .addAll(diff.getAddColumns())
+                .addAll(diff.getStorage())
+                .addAll(diff.getForeignKeys())
+                .addAll(diff.getIndexes());
     }
 
     // ---------------------------------------------------------
@@ -69,150 +83,81 @@ public class DdlScriptBuilder {
      */
 
 
-    private void buildDropAndCreate(StringBuilder sb, List<TableMetadata> tables) {
-        sb.append("\t/* --- 1. TABLES (DROP & CREATE) --- */\n");
-
-        boolean shouldDrop = isDropPolicy();
+    private void buildDropAndCreate(DdlPlan plan, ForeignKeyGenerator foreignKeys) {
+        List<TableMetadata> creationOrder = foreignKeys.getCreationOrder();
 
-        for (TableMetadata table : tables) {
-            // 1-1. DROP (정책이 맞을 경우)
-            if (shouldDrop) {
-                List<String> dropSqls = dialect.createDropTableSql(table);
-                for (String sql : dropSqls) {
-                    appendStatement(sb, sql);
+        // 1-1. DROP (정책이 맞을 경우) - 순환 참조 FK를 먼저 끊고, 자식 테이블부터 지우도록 생성 순서의 역순
+        if (isDropPolicy()) {
+            foreignKeys.generateDrop(plan);
+            for (int i = creationOrder.size() - 1; i >= 0; i--) {
+                TableMetadata table = creationOrder.get(i);
+                // 병렬 실행에서도 자식 DROP(순환이면 FK 제거)이 끝난 뒤 부모를 지우도록 자식 테이블을 dependsOn으로
+                for (String sql : dialect.createDropTableSql(table)) {
+                    plan.add(new DdlStatement(Kind.DROP_TABLE, table.getTableName(), sql,
+                            foreignKeys.referencingChildren(table), false));
                 }
             }
+        }
+
+        // 1-2. CREATE (IF NOT EXISTS 포함됨) - 부모 테이블부터 만들어서 FK를 인라인으로 정의
+        for (TableMetadata table : creationOrder) {
+            String createSql = dialect.createTableDefinitionSql(table, foreignKeys.parentFieldTypes(table), foreignKeys.getDeferred());
+            plan.add(new DdlStatement(Kind.CREATE_TABLE, table.getTableName(), createSql, foreignKeys.inlineParents(table), false));
 
-            // 1-2. CREATE (IF NOT EXISTS 포함됨)
-            String createSql = dialect.createTableDefinitionSql(table);
-            appendStatement(sb, createSql);
-            sb.append("\n");
+            // 1-3. 자식 파티션 (PostgreSQL 선언적 파티셔닝)
+            for (Map.Entry<String, String> partition : dialect.createPartitionSql(table).entrySet()) {
+                plan.add(new DdlStatement(Kind.CREATE_PARTITION, partition.getKey(), partition.getValue(),
+                        Collections.singleton(table.getTableName()), false));
+            }
         }
     }
 
     /**
      * Step 2. 컬럼 추가 (ALTER) - 테이블을 새로 만들지 않을 때만 실행
      */
-    private void buildAddColumns(StringBuilder sb, List<TableMetadata> tables) {
+    private void buildAddColumns(DdlPlan plan, List<TableMetadata> tables) {
         // DROP 정책이면 이미 CREATE에서 최신 컬럼이 만들어지므로 ALTER 불필요
         if (isDropPolicy()) {
             return;
         }
 
-        sb.append("\t/* --- 2. UPDATE COLUMNS (If Not Exists) --- */\n");
-
         for (TableMetadata table : tables) {
-            for (ColumnMetadata col : table.getColumns()) {
-                // Dialect에게 위임 (PG: IF NOT EXISTS, MySQL: Procedure)
-                String alterSql = dialect.createAddColumnIfNotExistsSql(table, col);
-
-                // 유효한 SQL이 있을 경우에만 추가
-                if (alterSql != null && !alterSql.trim().isEmpty()) {
-                    appendStatement(sb, alterSql);
+            // Dialect에게 위임 (PG: 컬럼마다 IF NOT EXISTS, MySQL: 테이블당 프로시저 하나 + ALTER 한 번)
+            for (String alterSql : dialect.createAddColumnsIfNotExistsSql(table, table.getColumns())) {
+                // 유효한 SQL이 있을 경우에만 추가 (빈 문장은 DdlPlan이 거름)
+                if (alterSql != null) {
+                    plan.add(new DdlStatement(Kind.ADD_COLUMN, table.getTableName(), alterSql));
                 }
             }
         }
-        sb.append("\n");
-    }
-
-    /**
-     * Step 3. 외래키 생성
-     */
-
-    private void buildForeignKeys(StringBuilder sb, List<TableMetadata> tables) {
-        sb.append("\t/* --- 3. FOREIGN KEYS --- */\n");
-
-
-        HashMap<String, List<String>> parentFieldTypes = new HashMap<>();
 
+        // 저장 옵션 (PG: ALTER TABLE ... SET, MySQL: 옵션이 다를 때만 ALTER하는 프로시저)
         for (TableMetadata table : tables) {
-
-            //fk 부모 이름 정보들
-
-            List<String> parentNames = table.getParentNames();
-
-            
-            /// parentName이 있을 경우 HashMap에 parent pk 필드 타입값을 넣음
-            if( parentNames !=null)
-            {
-                addParentFieldTypes(parentNames, tables, parentFieldTypes);
-            }
-
-            for (ColumnMetadata col : table.getColumns()) {
-
-                if (col.isForeignKey()) {
-
-                    List<String> fkSqls = dialect.createAlterTableSql(table, col, parentFieldTypes);
-
-                    for (String sql : fkSqls) {
-                        appendStatement(sb, sql);
-
-                    }
-                }
+            for (String storageSql : dialect.createAlterStorageIfChangedSql(table)) {
+                plan.add(new DdlStatement(Kind.ALTER_STORAGE, table.getTableName(), storageSql));
             }
         }
-        sb.append("\n");
-    }
-
-    private void addParentFieldTypes(List<String> parentNames, List<TableMetadata> tables, HashMap<String, List<String>> fieldTypeResult) {
-        HashMap<String, TableMetadata> tableMap = (HashMap<String, TableMetadata>) tables.stream()
-                .collect(Collectors.toMap(TableMetadata::getTableName
-                        , t -> t));
-        for(String parentName : parentNames) {
-            tableMap.get(parentName).getColumns().forEach(col -> {
-
-                fieldTypeResult.putIfAbsent(parentName, new ArrayList<>());
-
-                if(col.isContainPrimaryKey()) {
-                    fieldTypeResult.get(parentName).add(col.getType());
-                }
-            });
-        }
-
     }
 
     /**
      * Step 4. 인덱스 생성
      */
-    private void buildIndexes(StringBuilder sb, List<TableMetadata> tables) {
-        sb.append("\t/* --- 4. INDEXES --- */\n");
-
-
-
-
+    private void buildIndexes(DdlPlan plan, List<TableMetadata> tables) {
         for (TableMetadata table : tables) {
-
-
             List<String> indexSqls = dialect.createIndexSql(table);
             for (String sql : indexSqls) {
-                appendStatement(sb, sql);
+                // 트랜잭션 밖에서 실행해야 하는 인덱스는 메인 스크립트와 따로 실행
+                plan.add(new DdlStatement(Kind.CREATE_INDEX, table.getTableName(), sql,
+                        Collections.emptySet(), dialect.isIndexOutsideTransaction()));
             }
         }
 
     }
 
-
-
-
     // ---------------------------------------------------------
     // Utility Methods
     // ---------------------------------------------------------
 
-    /**
-     * SQL 문 뒤에 세미콜론(;)을 안전하게 붙여서 StringBuilder에 추가
-     */
-    private void appendStatement(StringBuilder sb, String sql) {
-        if (sql == null || sql.trim().isEmpty()) return;
-
-        sb.append("\t").append(sql.trim());
-
-        // 끝에 ;가 없으면 붙여줌 (MySQL 프로시저 등은 이미 있을 수 있음)
-        if (!sql.trim().endsWith(";")) {
-            sb.append(";");
-        }
-        sb.append("\n");
-    }
-
     /**
      * 현재 정책이 테이블 DROP을 포함하는지 확인
      */
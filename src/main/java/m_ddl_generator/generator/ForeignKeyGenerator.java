@@ -3,58 +3,161 @@ package m_ddl_generator.generator;
 import m_ddl_generator.dialect.SqlDialect;
 import m_ddl_generator.model.ColumnMetadata;
 import m_ddl_generator.model.TableMetadata;
+import m_ddl_generator.plan.DdlPlan;
+import m_ddl_generator.plan.DdlStatement;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * FK 의존 관계로 테이블 생성 순서를 정하고, CREATE TABLE 안에 넣을 수 없는 FK만 따로 생성합니다.
+ *
+ * - 부모 테이블이 먼저 오도록 위상 정렬 (DFS, 입력 순서 기준이므로 결과가 항상 같음)
+ * - FK 컬럼과 제약조건은 createTableDefinitionSql 안에 인라인으로 정의
+ * - 순환 참조(A -> B -> A)를 만드는 FK만 deferred로 분리해서 모든 테이블 생성 후 ALTER ... ADD CONSTRAINT
+ * - ALTER 정책은 기존 테이블에 새로 생긴 FK도 있으므로 모든 FK 제약조건을 "없으면 추가"로 생성
+ *   (자기 참조는 CREATE TABLE 안에서 정의할 수 있으므로 순환으로 보지 않음)
+ */
 public class ForeignKeyGenerator {
 
     private final SqlDialect dialect;
     private final Map<String, TableMetadata> tableLookup;
 
+    // 부모 -> 자식 순서의 생성 순서
+    private final List<TableMetadata> creationOrder = new ArrayList<>();
+    // 순환 때문에 나중에 추가할 FK 컬럼 -> 소속 테이블 (ColumnMetadata는 equals를 재정의하지 않으므로 인스턴스 기준)
+    private final Map<ColumnMetadata, TableMetadata> deferred = new LinkedHashMap<>();
+
     public ForeignKeyGenerator(SqlDialect dialect, List<TableMetadata> tables) {
         this.dialect = dialect;
         // 성능 최적화: 테이블 리스트를 Map으로 한 번만 변환 (Key: TableName)
-        this.tableLookup = tables.stream()
-                .collect(Collectors.toMap(
-                        TableMetadata::getTableName, // Key
-                        t -> t,
-                        (oldVal, newVal) -> oldVal,
-                        HashMap::new
-                ));
+        this.tableLookup = new HashMap<>();
+        for (TableMetadata table : tables) {
+            tableLookup.putIfAbsent(table.getTableName(), table);
+        }
+
+        Set<String> visiting = new HashSet<>();
+        Set<String> done = new HashSet<>();
+        for (TableMetadata table : tables) {
+            visit(table, visiting, done);
+        }
     }
 
-    public void generate(StringBuilder sb) {
-        sb.append("\t/* --- 3. FOREIGN KEYS --- */\n");
+    private void visit(TableMetadata table, Set<String> visiting, Set<String> done) {
+        String name = table.getTableName();
+        if (done.contains(name)) return;
+        visiting.add(name);
 
-        for (TableMetadata table : tableLookup.values()) {
-            for (ColumnMetadata col : table.getColumns()) {
+        for (ColumnMetadata col : table.getColumns()) {
+            if (!col.isForeignKey()) continue;
 
-                // FK인 경우에만 로직 수행
-                if (col.isForeignKey()) {
-                    generateFkSql(sb, table, col);
-                }
+            String parentName = col.getFkTargetTable();
+            TableMetadata parent = tableLookup.get(parentName);
+            if (parent == null || parentName.equals(name)) continue;
+
+            if (visiting.contains(parentName)) {
+                // 아직 생성 중인 조상을 다시 참조 -> 순환. 이 FK만 나중으로 미룸
+                deferred.put(col, table);
+                continue;
             }
+            visit(parent, visiting, done);
         }
-        sb.append("\n");
+
+        visiting.remove(name);
+        done.add(name);
+        creationOrder.add(table);
     }
 
-    private void generateFkSql(StringBuilder sb, TableMetadata currentTable, ColumnMetadata col) {
-        // 1. 부모 테이블 이름 가져오기
-        String parentName = col.getFkTargetTable(); // 혹은 getParentTableName() 상황에 맞춰 사용
-        if (parentName == null) return;
+    /**
+     * 부모 테이블이 자식보다 먼저 오는 생성 순서 (DROP은 이 역순)
+     */
+    public List<TableMetadata> getCreationOrder() {
+        return creationOrder;
+    }
 
-        // 2. 부모 테이블의 PK 타입 조회
-        List<String> parentPkTypes = findParentPkTypes(parentName);
+    /**
+     * CREATE TABLE 안에 제약조건을 넣지 못하는(순환) FK 컬럼
+     */
+    public Set<ColumnMetadata> getDeferred() {
+        return deferred.keySet();
+    }
+
+    /**
+     * CREATE TABLE 안에 인라인으로 정의되는 FK의 부모 테이블 (이 테이블보다 먼저 만들어져 있어야 함)
+     */
+    public Set<String> inlineParents(TableMetadata table) {
+        Set<String> parents = new LinkedHashSet<>();
+        for (ColumnMetadata col : table.getColumns()) {
+            if (col.isForeignKey() && !deferred.containsKey(col) && tableLookup.containsKey(col.getFkTargetTable())) {
+                parents.add(col.getFkTargetTable());
+            }
+        }
+        parents.remove(table.getTableName());
+        return parents;
+    }
+
+    /**
+     * 이 테이블을 FK로 참조하는 자식 테이블 (순환 FK 포함, DROP 전에 먼저 지워져 있어야 함)
+     */
+    public Set<String> referencingChildren(TableMetadata parent) {
+        Set<String> children = new LinkedHashSet<>();
+        for (TableMetadata table : creationOrder) {
+            for (ColumnMetadata col : table.getColumns()) {
+                if (col.isForeignKey() && parent.getTableName().equals(col.getFkTargetTable())) {
+                    children.add(table.getTableName());
+                }
+            }
+        }
+        children.remove(parent.getTableName());
+        return children;
+    }
 
-        // 3. Dialect에 넘기기 위해 Map 형태로 포장 (기존 로직 유지)
+    /**
+     * 테이블의 FK 부모 PK 타입 (부모 테이블명 -> PK 타입 목록)
+     */
+    public HashMap<String, List<String>> parentFieldTypes(TableMetadata table) {
         HashMap<String, List<String>> parentFieldTypes = new HashMap<>();
-        parentFieldTypes.put(parentName, parentPkTypes);
+        for (String parentName : table.getParentNames()) {
+            parentFieldTypes.putIfAbsent(parentName, findParentPkTypes(parentName));
+        }
+        return parentFieldTypes;
+    }
+
+    /**
+     * DROP 정책: 순환 참조 FK 제약조건을 테이블 DROP 전에 제거합니다. (방언이 필요 없다고 하면 생략)
+     */
+    public void generateDrop(DdlPlan plan) {
+        for (Map.Entry<ColumnMetadata, TableMetadata> e : deferred.entrySet()) {
+            for (String sql : dialect.createDropForeignKeyIfExistsSql(e.getValue(), e.getKey())) {
+                plan.add(new DdlStatement(DdlStatement.Kind.DROP_FOREIGN_KEY, e.getValue().getTableName(), sql));
+            }
+        }
+    }
 
-        // 4. SQL 생성 및 추가
-        List<String> sqls = dialect.createAlterTableSql(currentTable, col, parentFieldTypes);
-        for (String sql : sqls) {
-            appendStatement(sb, sql);
+    /**
+     * 순환 참조 FK 제약조건만 모든 테이블 생성 후 ALTER로 추가합니다.
+     */
+    public void generate(DdlPlan plan) {
+        for (Map.Entry<ColumnMetadata, TableMetadata> e : deferred.entrySet()) {
+            ColumnMetadata col = e.getKey();
+            plan.add(new DdlStatement(DdlStatement.Kind.ADD_FOREIGN_KEY, e.getValue().getTableName(),
+                    dialect.createForeignKeyConstraintSql(e.getValue(), col),
+                    Collections.singleton(col.getFkTargetTable()), false));
+        }
+    }
+
+    /**
+     * ALTER 정책: 기존 테이블에 새로 생긴 FK도 제약조건이 붙도록 모든 FK 제약조건을 "없으면 추가"로 생성합니다.
+     * (새로 만든 테이블의 인라인 FK는 이미 있으므로 건너뛰고, 순환 FK는 여기서 처음 추가됨)
+     */
+    public void generateIfNotExists(DdlPlan plan) {
+        for (TableMetadata table : creationOrder) {
+            for (ColumnMetadata col : table.getColumns()) {
+                if (!col.isForeignKey()) continue;
+                for (String sql : dialect.createForeignKeyConstraintIfNotExistsSql(table, col)) {
+                    plan.add(new DdlStatement(DdlStatement.Kind.ADD_FOREIGN_KEY, table.getTableName(), sql,
+                            Collections.singleton(col.getFkTargetTable()), false));
+                }
+            }
         }
     }
 
@@ -75,8 +178,4 @@ public class ForeignKeyGenerator {
         }
         return pkTypes;
     }
-
-    private void appendStatement(StringBuilder sb, String sql) {
-        sb.append("\t").append(sql).append(";\n");
-    }
 }
@@ -1,18 +1,27 @@
 package m_ddl_generator.generator;
 
+import m_ddl_generator.plan.DdlPlan;
+import m_ddl_generator.plan.DdlStatement;
+
 import javax.annotation.processing.FilerException; // 🔥 핵심: 중복 생성 에러 처리를 위해 필요
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
 import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.List;
 
 public class JpmExecutorSourceWriter implements ExecutorSourceWriter {
 
     private final ProcessingEnvironment processingEnv;
+    // 생성 파일의 원본 엔티티 목록 (originating elements)
+    private final Element[] originatingElements;
 
-    public JpmExecutorSourceWriter(ProcessingEnvironment processingEnv) {
+    public JpmExecutorSourceWriter(ProcessingEnvironment processingEnv, Element... originatingElements) {
         this.processingEnv = processingEnv;
+        this.originatingElements = originatingElements;
     }
 
     @Override
@@ -21,7 +30,7 @@ public class JpmExecutorSourceWriter implements ExecutorSourceWriter {
 
         try {
             // 🔥 파일 생성 시도
-            JavaFileObject fileObject = processingEnv.getFiler().createSourceFile(fullClassName);
+            JavaFileObject fileObject = processingEnv.getFiler().createSourceFile(fullClassName, originatingElements);
 
             // 성공 시 Writer 열고 작성
             try (PrintWriter out = new PrintWriter(fileObject.openWriter())) {
@@ -34,11 +43,13 @@ public class JpmExecutorSourceWriter implements ExecutorSourceWriter {
 
                 // 3. 필드, 내부클래스, 생성자, 메서드들
                 writeFields(out);
+                writeDdlPlan(out, cmd.plan);
                 writeInnerClasses(out);
                 writeConstructor(out, className, cmd);
                 writeRunMethod(out);
                 writeDynamicExecutorMethod(out);
                 writeSqlSessionExecutorMethod(out);
+                writeApplyDdlPlanMethod(out);
 
                 // 4. 클래스 끝
                 out.println("}");
@@ -68,7 +79,12 @@ public class JpmExecutorSourceWriter implements ExecutorSourceWriter {
         out.println("import org.apache.ibatis.io.Resources;");
 
         // 유틸 및 IO
+        out.println("import java.util.ArrayList;");
+        out.println("import java.util.List;");
         out.println("import java.util.Properties;");
+        out.println("import java.sql.Connection;");
+        out.println("import java.sql.SQLException;");
+        out.println("import java.sql.Statement;");
         out.println("import java.io.InputStream;");
         out.println("import java.io.IOException;");
         out.println();
@@ -181,4 +197,90 @@ public class JpmExecutorSourceWriter implements ExecutorSourceWriter {
         out.println("        } catch (Exception e) { e.printStackTrace(); }");
         out.println("    }");
     }
-}
\ No newline at end of file
+
+    // 생성 메서드 하나에 넣는 행 수 (메서드 바이트코드 64KB 제한 때문에 큰 스키마는 여러 메서드로 나눔)
+    private static final int DDL_PLAN_ROWS_PER_METHOD = 500;
+
+    // 생성 시점의 DDL 계획을 {종류, 테이블, SQL, 트랜잭션 밖 실행 여부} 행으로 박아넣음 (ddl.xml을 다시 파싱하지 않고 실행 가능)
+    private void writeDdlPlan(PrintWriter out, DdlPlan plan) {
+        List<DdlStatement> statements = plan == null ? Collections.emptyList() : plan.getStatements();
+        int parts = (statements.size() + DDL_PLAN_ROWS_PER_METHOD - 1) / DDL_PLAN_ROWS_PER_METHOD;
+
+        out.println("    public static final String[][] DDL_PLAN = ddlPlan();");
+        out.println();
+        out.println("    private static String[][] ddlPlan() {");
+        out.println("        List<String[]> rows = new ArrayList<>(" + statements.size() + ");");
+        for (int part = 0; part < parts; part++) {
+            out.println("        ddlPlan" + part + "(rows);");
+        }
+        out.println("        return rows.toArray(new String[0][]);");
+        out.println("    }");
+        out.println();
+
+        // 문장을 하나씩 바로 출력 (전체 소스를 문자열로 모으지 않음)
+        for (int part = 0; part < parts; part++) {
+            out.println("    private static void ddlPlan" + part + "(List<String[]> rows) {");
+            int end = Math.min(statements.size(), (part + 1) * DDL_PLAN_ROWS_PER_METHOD);
+            for (DdlStatement statement : statements.subList(part * DDL_PLAN_ROWS_PER_METHOD, end)) {
+                out.println("        rows.add(new String[]{\"" + statement.getKind() + "\", " + literal(statement.getTable()) + ", "
+                        + literal(statement.getSql()) + ", \"" + statement.isOutsideTransaction() + "\"});");
+            }
+            out.println("    }");
+            out.println();
+        }
+    }
+
+    private void writeApplyDdlPlanMethod(PrintWriter out) {
+        out.println();
+        out.println("    public void applyDdlPlan() {");
+        out.println("        try (SqlSession session = factory.openSession(false)) {");
+        out.println("            Connection connection = session.getConnection();");
+        out.println("            // 1. 메인 문장: 한 트랜잭션");
+        out.println("            try (Statement stmt = connection.createStatement()) {");
+        out.println("                for (String[] row : DDL_PLAN) {");
+        out.println("                    if (!Boolean.parseBoolean(row[3])) executePlanRow(stmt, row);");
+        out.println("                }");
+        out.println("                connection.commit();");
+        out.println("            } catch (SQLException e) {");
+        out.println("                connection.rollback();");
+        out.println("                throw e;");
+        out.println("            }");
+        out.println("            // 2. 트랜잭션 밖에서 실행해야 하는 문장 (CREATE INDEX CONCURRENTLY)");
+        out.println("            connection.setAutoCommit(true);");
+        out.println("            try (Statement stmt = connection.createStatement()) {");
+        out.println("                for (String[] row : DDL_PLAN) {");
+        out.println("                    if (Boolean.parseBoolean(row[3])) executePlanRow(stmt, row);");
+        out.println("                }");
+        out.println("            }");
+        out.println("            System.out.println(\"✅ [DDL_PLAN] Applied \" + DDL_PLAN.length + \" statement(s)\");");
+        out.println("        } catch (SQLException e) {");
+        out.println("            throw new RuntimeException(\"❌ [DDL_PLAN] \" + e.getMessage(), e);");
+        out.println("        }");
+        out.println("    }");
+        out.println();
+        out.println("    private static void executePlanRow(Statement stmt, String[] row) throws SQLException {");
+        out.println("        try {");
+        out.println("            stmt.execute(row[2]);");
+        out.println("        } catch (SQLException e) {");
+        out.println("            throw new SQLException(\"[\" + row[0] + \" \" + row[1] + \"] \" + e.getMessage(), e.getSQLState(), e.getErrorCode(), e);");
+        out.println("        }");
+        out.println("    }");
+    }
+
+    // 자바 문자열 리터럴로 변환
+    private static String literal(String value) {
+        if (value == null) return "null";
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default: sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -1,5 +1,7 @@
 package m_ddl_generator.model;
 
+import dsl_variable.v2.IndexMethod;
+
 public class ColumnMetadata {
     private final String name;
     private final String type;
@@ -10,6 +12,8 @@ public class ColumnMetadata {
     private final boolean isIndexed;
     private final boolean isUnique;
     private final boolean isUUIDV7;
+    private final IndexMethod indexMethod; // null이면 DB 기본값 (B-tree)
+    private final String indexOpClass;
 
     // FK 정보 (Setter로 주입)
     private String fkTargetTable;
@@ -26,6 +30,8 @@ public class ColumnMetadata {
         this.isIndexed = builder.isIndexed;
         this.isUnique = builder.isUnique;
         this.isUUIDV7 = builder.isUUIDV7;
+        this.indexMethod = builder.indexMethod;
+        this.indexOpClass = builder.indexOpClass;
     }
 
     public void setForeignKey(String targetTable, String targetColumn, String onDeleteAction) {
@@ -44,6 +50,8 @@ public class ColumnMetadata {
     public String getDefaultValue() { return defaultValue; }
     public boolean isContainIndexed() { return isIndexed; }
     public boolean isContainUnique() { return isUnique; }
+    public IndexMethod getIndexMethod() { return indexMethod; }
+    public String getIndexOpClass() { return indexOpClass; }
 
 
     // FK 관련 Getter
@@ -79,6 +87,8 @@ public class ColumnMetadata {
         private boolean isIndexed = false;
         private boolean isUnique = false;
         private boolean isUUIDV7 = false;
+        private IndexMethod indexMethod = null;
+        private String indexOpClass = null;
 
         public Builder(String name, String dbType) {
             this.name = name;
@@ -92,6 +102,8 @@ public class ColumnMetadata {
         public Builder indexed(boolean val) { this.isIndexed = val; return this; }
         public Builder unique(boolean val) { this.isUnique = val; return this; }
         public Builder isUUIDV7(boolean val) {this.isUUIDV7 = val; return this;}
+        public Builder indexMethod(IndexMethod val) { this.indexMethod = val; return this; }
+        public Builder indexOpClass(String val) { this.indexOpClass = val; return this; }
 
 
         public ColumnMetadata build() {
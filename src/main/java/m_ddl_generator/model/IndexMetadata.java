@@ -0,0 +1,73 @@
+package m_ddl_generator.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 테이블 단위 인덱스 (복합 키, 정렬 방향, 커버링 INCLUDE 컬럼)
+ * 단일 컬럼 인덱스는 기존처럼 ColumnMetadata의 indexed/unique 플래그로 표현합니다.
+ */
+public class IndexMetadata {
+    private final String name;
+    private final boolean unique;
+    private final List<IndexColumn> columns;
+    private final List<String> includeColumns;
+
+    private IndexMetadata(Builder builder) {
+        this.name = builder.name;
+        this.unique = builder.unique;
+        this.columns = Collections.unmodifiableList(builder.columns);
+        this.includeColumns = Collections.unmodifiableList(builder.includeColumns);
+    }
+
+    public String getName() { return name; }
+    public boolean isUnique() { return unique; }
+    public List<IndexColumn> getColumns() { return columns; }
+    public List<String> getIncludeColumns() { return includeColumns; }
+
+    /**
+     * 인덱스 키 컬럼 하나 (정렬 방향 포함)
+     */
+    public static class IndexColumn {
+        private final String name;
+        private final boolean descending;
+
+        public IndexColumn(String name, boolean descending) {
+            this.name = name;
+            this.descending = descending;
+        }
+
+        public String getName() { return name; }
+        public boolean isDescending() { return descending; }
+
+        // "created_at DESC"
+        public String toSql() {
+            return descending ? name + " DESC" : name;
+        }
+
+        @Override
+        public String toString() {
+            return toSql();
+        }
+    }
+
+    public static class Builder {
+        private final String name;
+        private boolean unique = false;
+        private final List<IndexColumn> columns = new ArrayList<>();
+        private final List<String> includeColumns = new ArrayList<>();
+
+        public Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder unique(boolean val) { this.unique = val; return this; }
+        public Builder column(String columnName, boolean descending) { this.columns.add(new IndexColumn(columnName, descending)); return this; }
+        public Builder include(String columnName) { this.includeColumns.add(columnName); return this; }
+
+        public IndexMetadata build() {
+            return new IndexMetadata(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package m_ddl_generator.model;
+
+import annotation.PartitionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 테이블 파티셔닝 스펙 (파티션 방식, 키 컬럼, 파티션 목록 또는 HASH 개수)
+ */
+public class PartitionMetadata {
+    private final PartitionType type;
+    private final String column;
+    private final List<Bound> bounds;
+    private final int count;
+
+    private PartitionMetadata(Builder builder) {
+        this.type = builder.type;
+        this.column = builder.column;
+        this.bounds = Collections.unmodifiableList(builder.bounds);
+        this.count = builder.count;
+    }
+
+    public PartitionType getType() { return type; }
+    public String getColumn() { return column; }
+    public List<Bound> getBounds() { return bounds; }
+    public int getCount() { return count; }
+
+    /**
+     * 파티션 하나 (RANGE: 상한 값 하나, LIST: 값 목록)
+     */
+    public static class Bound {
+        private final String name;
+        private final List<String> values;
+
+        public Bound(String name, List<String> values) {
+            this.name = name;
+            this.values = Collections.unmodifiableList(new ArrayList<>(values));
+        }
+
+        public String getName() { return name; }
+        public List<String> getValues() { return values; }
+
+        @Override
+        public String toString() {
+            return name + values;
+        }
+    }
+
+    public static class Builder {
+        private final PartitionType type;
+        private final String column;
+        private final List<Bound> bounds = new ArrayList<>();
+        private int count = 0;
+
+        public Builder(PartitionType type, String column) {
+            this.type = type;
+            this.column = column;
+        }
+
+        public Builder bound(String name, List<String> values) { this.bounds.add(new Bound(name, values)); return this; }
+        public Builder count(int val) { this.count = val; return this; }
+
+        public PartitionMetadata build() {
+            return new PartitionMetadata(this);
+        }
+    }
+}
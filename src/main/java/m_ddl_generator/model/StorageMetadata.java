@@ -0,0 +1,51 @@
+package m_ddl_generator.model;
+
+import annotation.RowFormat;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 테이블 저장 옵션
+ * - storageParameters: PostgreSQL WITH (...) 저장 파라미터 (이름 -> 값, 선언 순서)
+ * - rowFormat / keyBlockSize: MySQL InnoDB 테이블 옵션
+ */
+public class StorageMetadata {
+    private final Map<String, String> storageParameters;
+    private final RowFormat rowFormat;
+    private final int keyBlockSize;
+
+    private StorageMetadata(Builder builder) {
+        this.storageParameters = Collections.unmodifiableMap(builder.storageParameters);
+        this.rowFormat = builder.rowFormat;
+        this.keyBlockSize = builder.keyBlockSize;
+    }
+
+    public Map<String, String> getStorageParameters() { return storageParameters; }
+    public RowFormat getRowFormat() { return rowFormat; }
+    public int getKeyBlockSize() { return keyBlockSize; }
+
+    public boolean isEmpty() {
+        return storageParameters.isEmpty() && rowFormat == RowFormat.DEFAULT && keyBlockSize == 0;
+    }
+
+    @Override
+    public String toString() {
+        return storageParameters + "|" + rowFormat + "|" + keyBlockSize;
+    }
+
+    public static class Builder {
+        private final Map<String, String> storageParameters = new LinkedHashMap<>();
+        private RowFormat rowFormat = RowFormat.DEFAULT;
+        private int keyBlockSize = 0;
+
+        public Builder parameter(String name, String value) { this.storageParameters.put(name, value); return this; }
+        public Builder rowFormat(RowFormat val) { this.rowFormat = val; return this; }
+        public Builder keyBlockSize(int val) { this.keyBlockSize = val; return this; }
+
+        public StorageMetadata build() {
+            return new StorageMetadata(this);
+        }
+    }
+}
@@ -1,19 +1,46 @@
 package m_ddl_generator.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class TableMetadata {
     private final String tableName;
     private final List<ColumnMetadata> columns;
+    // 복합/커버링 인덱스 (@MEntity(indexes = ...))
+    private final List<IndexMetadata> indexes;
+    // 파티셔닝 스펙 (@MEntity(partition = ...), 없으면 null)
+    private final PartitionMetadata partition;
+    // 저장 옵션 (@MEntity(storage = ...), 없으면 null)
+    private final StorageMetadata storage;
 
     public TableMetadata(String tableName, List<ColumnMetadata> columns) {
+        this(tableName, columns, Collections.emptyList());
+    }
+
+    public TableMetadata(String tableName, List<ColumnMetadata> columns, List<IndexMetadata> indexes) {
+        this(tableName, columns, indexes, null);
+    }
+
+    public TableMetadata(String tableName, List<ColumnMetadata> columns, List<IndexMetadata> indexes, PartitionMetadata partition) {
+        this(tableName, columns, indexes, partition, null);
+    }
+
+    public TableMetadata(String tableName, List<ColumnMetadata> columns, List<IndexMetadata> indexes, PartitionMetadata partition, StorageMetadata storage) {
         this.tableName = tableName;
         this.columns = columns;
+        this.indexes = indexes;
+        this.partition = partition;
+        this.storage = storage;
     }
     // Getters...
     public String getTableName() { return tableName; }
     public List<ColumnMetadata> getColumns() { return columns; }
+    public List<IndexMetadata> getIndexes() { return indexes; }
+    public PartitionMetadata getPartition() { return partition; }
+    public boolean isPartitioned() { return partition != null; }
+    public StorageMetadata getStorage() { return storage; }
+    public boolean hasStorage() { return storage != null; }
 
     public List<String> getParentNames()
     {
@@ -30,4 +57,4 @@ public class TableMetadata {
 
         return parentTables;
     }
-}
\ No newline at end of file
+}
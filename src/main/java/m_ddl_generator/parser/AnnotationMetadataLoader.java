@@ -1,16 +1,30 @@
 package m_ddl_generator.parser;
 
 import annotation.MEntity;
+import annotation.MIndex;
+import annotation.MPartition;
+import annotation.MPartitionBound;
+import annotation.MStorage;
+import annotation.PartitionType;
+import annotation.RowFormat;
 import config.AppConfig;
 import dsl_variable.v2.MFieldType;
-import dsl_variable.v2.MObjectFactory;
+import dsl_variable.v2.MConstantResolver;
 import dsl_variable.v2.MParserUtils;
 import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldValidator;
+import dsl_variable.v2.MTreeParserUtils;
 import m_ddl_generator.AnnotationUtil; // 파일 경로 얻는 유틸 (기존 유지)
 import m_ddl_generator.dialect.SqlDialect;
 import m_ddl_generator.model.ColumnMetadata;
+import m_ddl_generator.model.IndexMetadata;
+import m_ddl_generator.model.PartitionMetadata;
+import m_ddl_generator.model.StorageMetadata;
 import m_ddl_generator.model.TableMetadata;
 
+import com.sun.source.util.Trees;
+import utils.LogPrinter;
+
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
@@ -18,14 +32,18 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.tools.Diagnostic;
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Paths;
 import java.util.*;
 
 
 public class AnnotationMetadataLoader implements MetadataLoader {
 
 
-    private final RoundEnvironment roundEnv;
     private final Messager messager;
+    // javac 구문 트리 접근자 (javac가 아닌 컴파일러에서는 null -> JavaParser로 대체)
+    private final Trees trees;
     Map<String, String> options;
     SqlDialect sqlDialect = AppConfig.getSqlDialectImpl();
 
@@ -35,16 +53,40 @@ public class AnnotationMetadataLoader implements MetadataLoader {
     // 파싱된 변수 캐시 (파일 다시 읽지 않기 위함)
     private final Map<String, List<MField>> parsedVariablesCache = new HashMap<>();
 
-    public AnnotationMetadataLoader(ProcessingEnvironment processingEnv, RoundEnvironment roundEnv) {
+    // DSL 인자의 상수 해석기 (빌드 전체에서 하나를 공유, 해석 결과도 여기서 재사용)
+    private final MConstantResolver constants;
+
+    public AnnotationMetadataLoader(ProcessingEnvironment processingEnv) {
 
-        this.roundEnv = roundEnv;
         this.messager = processingEnv.getMessager();
         this.options = processingEnv.getOptions();
+        this.trees = initTrees(processingEnv);
+        this.constants = new MConstantResolver(trees != null ? processingEnv.getElementUtils() : null,
+                sourceRoot(options.get("projectDir")));
     }
 
-    @Override
-    public List<TableMetadata> load(RoundEnvironment ignored) {
-        List<TableMetadata> tables = new ArrayList<>();
+    // AnnotationUtil과 같은 기준의 소스 루트 (projectDir 옵션이 없으면 현재 디렉토리 기준)
+    private static File sourceRoot(String projectDir) {
+        if (projectDir == null || projectDir.isEmpty()) {
+            return new File("src/main/java").getAbsoluteFile();
+        }
+        return Paths.get(projectDir, "src", "main", "java").toFile();
+    }
+
+    private static Trees initTrees(ProcessingEnvironment processingEnv) {
+        try {
+            return Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            // ECJ 등 javac 이외의 환경
+            return null;
+        }
+    }
+
+    /**
+     * 라운드마다 호출: 이번 라운드의 @MEntity를 스캔해서 누적합니다.
+     * (javac 트리/Element는 해당 라운드에서 읽는 것이 안전하므로 파싱은 여기서 끝냄)
+     */
+    public void scan(RoundEnvironment roundEnv) {
         Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(MEntity.class);
 
         // --- Step 1. 모든 엔티티 사전 스캔 (Parsing & Info Collecting) ---
@@ -53,6 +95,14 @@ public class AnnotationMetadataLoader implements MetadataLoader {
                 scanEntity((TypeElement) element);
             }
         }
+    }
+
+    /**
+     * 지금까지 누적된 모든 라운드의 엔티티로 TableMetadata를 만듭니다.
+     */
+    @Override
+    public List<TableMetadata> load(RoundEnvironment ignored) {
+        List<TableMetadata> tables = new ArrayList<>();
 
         // --- Step 2. 메타데이터 생성 (Linking) ---
         for (String className : parsedVariablesCache.keySet()) {
@@ -69,64 +119,93 @@ public class AnnotationMetadataLoader implements MetadataLoader {
             }
         }
 
+        validatePartitionReferences(tables);
+
         return tables;
     }
 
     // --- 내부 로직 ---
 
-    /**
-     * 1. 소스 코드를 파싱해서 MVariable 리스트를 만들고
-     * 2. PK 정보와 테이블 이름을 entityInfoMap에 저장합니다.
-     */
     private void scanEntity(TypeElement element) {
         try {
-            String className = element.getSimpleName().toString();
-            MEntity entityAnn = element.getAnnotation(MEntity.class);
-            String tableName = entityAnn.name();
-
-            // 🚨 [수정] AnnotationUtil이 TypeElement(클래스)를 처리 못하고 에러를 뱉으므로,
-            // 클래스 내부의 첫 번째 필드를 찾아서 대신 넘겨줍니다. (같은 파일이므로 경로 동일)
-            VariableElement firstField = javax.lang.model.util.ElementFilter.fieldsIn(element.getEnclosedElements())
-                    .stream()
-                    .findFirst()
-                    .orElseThrow(() -> new RuntimeException("[AnnotationMetadataLoader: scanEntity] Entity must have at least one field: " + className));
-
-            // 클래스(element) 대신 필드(firstField)를 넘김
-            String filePath = AnnotationUtil.getRelativePath(firstField, false);
-
-
-
+            registerEntity(element, resolveSource(element));
+        } catch (Exception e) {
+            messager.printMessage(Diagnostic.Kind.WARNING, "Parsing skipped for " + element.getSimpleName() + ": " + e.getMessage());
+        }
+    }
 
-            // 2. 파싱 실행 (MParserUtils -> Pairs -> MVariable)
-            List<List<MParserUtils.Pair>> rawDataList = MParserUtils.execute(filePath);
+    /**
+     * 엔티티의 MField 리스트를 만듭니다.
+     * javac가 이미 파싱한 트리가 있으면 바로 읽고, 없을 때만 소스 파일을 JavaParser로 파싱합니다.
+     */
+    private ParsedSource resolveSource(TypeElement element) throws Exception {
+        String className = element.getSimpleName().toString();
+
+        // 🚨 [수정] AnnotationUtil이 TypeElement(클래스)를 처리 못하고 에러를 뱉으므로,
+        // 클래스 내부의 첫 번째 필드를 찾아서 대신 넘겨줍니다. (같은 파일이므로 경로 동일)
+        VariableElement firstField = javax.lang.model.util.ElementFilter.fieldsIn(element.getEnclosedElements())
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("[AnnotationMetadataLoader: scanEntity] Entity must have at least one field: " + className));
+
+        if (trees != null && trees.getTree(element) != null) {
+            // 트리 경로의 문제는 MTreeParserUtils가 소스 위치와 함께 바로 보고함
+            return new ParsedSource(null, MTreeParserUtils.execute(trees, element, constants), Collections.emptyList());
+        }
 
-            List<MField> variables = new ArrayList<>();
-            String pkColumnName = "id"; // fallback
+        // 클래스(element) 대신 필드(firstField)를 넘김
+        String filePath = AnnotationUtil.getRelativePath(firstField, false);
+        return parseSourceFile(filePath);
+    }
 
-            for (List<MParserUtils.Pair> rawData : rawDataList) {
-                // 팩토리를 통해 MVariable 객체 생성
-                MField var = MObjectFactory.createMVariable(rawData, element);
+    /**
+     * 1. 파싱된 MField를 검증하고
+     * 2. PK 정보와 테이블 이름을 entityInfoMap에 저장합니다.
+     */
+    private void registerEntity(TypeElement element, ParsedSource parsed) {
+        String className = element.getSimpleName().toString();
+        MEntity entityAnn = element.getAnnotation(MEntity.class);
+        String tableName = entityAnn.name();
+
+        List<MField> variables = new ArrayList<>();
+        String pkColumnName = "id"; // fallback
+        MField pkField = null;
+
+        // JavaParser 경로에서 모아 둔 문제(위치 포함)는 엔티티 위치와 함께 보고
+        for (String problem : parsed.problems) {
+            messager.printMessage(Diagnostic.Kind.WARNING, "[JPM] " + parsed.filePath + ": " + problem, element);
+        }
 
+        for (MField var : parsed.fields) {
+            MFieldValidator.validate(var, element);
 
-                variables.add(var);
 
-                if (var.isPrimaryKey()) {
-                    pkColumnName = var.getName(); // PK 발견
+            variables.add(var);
 
-                }
+            if (var.isPrimaryKey()) {
+                pkColumnName = var.getName(); // PK 발견
+                pkField = var;
             }
+        }
 
-            // 3. 정보 캐싱
-            parsedVariablesCache.put(className, variables);
-
-            EntityInfo info = new EntityInfo(tableName, pkColumnName);
-            entityInfoMap.put(className, info);
-
-        } catch (Exception e) {
-            messager.printMessage(Diagnostic.Kind.WARNING, "Parsing skipped for " + element.getSimpleName() + ": " + e.getMessage());
+        // 3. 정보 캐싱
+        parsedVariablesCache.put(className, variables);
 
+        EntityInfo info = new EntityInfo(tableName, pkColumnName);
+        info.pkField = pkField;
+        info.indexes = buildIndexes(entityAnn, tableName, variables, element);
+        info.partition = buildPartition(entityAnn.partition(), variables, info.indexes, element);
+        info.storage = buildStorage(entityAnn.storage(), element);
+        entityInfoMap.put(className, info);
+    }
 
-        }
+    /**
+     * JavaParser로 소스 파일을 파싱합니다. (javac 트리를 쓸 수 없는 환경용, 매번 파일 전체를 파싱)
+     */
+    private ParsedSource parseSourceFile(String filePath) throws Exception {
+        List<String> problems = new ArrayList<>();
+        List<MField> fields = MParserUtils.execute(filePath, constants, problems);
+        return new ParsedSource(filePath, fields, problems);
     }
 
     /**
@@ -141,10 +220,12 @@ public class AnnotationMetadataLoader implements MetadataLoader {
         List<ColumnMetadata> columns = new ArrayList<>();
 
         for (MField var : variables) {
-            String type = mapToSqlType(var);
+            String type = columnType(var);
 
-            if (var.getType() == MFieldType.STRING) {
-                type = "VARCHAR(" + var.getLength() + ")";
+            // FK 컬럼 타입은 부모 PK 타입을 따름 (UUID, VARCHAR PK 등. 부모를 모르면 BIGINT)
+            EntityInfo targetInfo = var.getType() == MFieldType.FK ? entityInfoMap.get(var.getParentClassName()) : null;
+            if (targetInfo != null && targetInfo.pkField != null && targetInfo.pkField.getType() != MFieldType.FK) {
+                type = columnType(targetInfo.pkField);
             }
 
             boolean finalNullable = !var.isPrimaryKey() && var.isNullable();
@@ -183,12 +264,12 @@ public class AnnotationMetadataLoader implements MetadataLoader {
                     .indexed(isIndexed)
                     .unique(isUnique)
                     .isUUIDV7(isUUIDV7)
+                    .indexMethod(var.getIndexMethod())
+                    .indexOpClass(var.getIndexOpClass())
                     .build();
 
             // ... FK 처리 로직 (기존과 동일) ...
             if (var.getType() == MFieldType.FK) {
-                String targetClassName = var.getParentClassName();
-                EntityInfo targetInfo = entityInfoMap.get(targetClassName);
                 if (targetInfo != null) {
                     column.setForeignKey(targetInfo.tableName, targetInfo.pkColumnName, var.getOnDelete());
                 }
@@ -197,10 +278,245 @@ public class AnnotationMetadataLoader implements MetadataLoader {
             columns.add(column);
         }
 
-        return new TableMetadata(currentEntity.tableName, columns);
+        return new TableMetadata(currentEntity.tableName, columns, currentEntity.indexes, currentEntity.partition, currentEntity.storage);
     }
 
 
+    /**
+     * @MEntity(indexes = ...) 선언을 IndexMetadata로 변환합니다.
+     * 엔티티에 없는 컬럼을 참조하는 인덱스는 오류를 보고하고 제외합니다.
+     */
+    private List<IndexMetadata> buildIndexes(MEntity entityAnn, String tableName, List<MField> variables, TypeElement element) {
+        Set<String> columnNames = new HashSet<>();
+        for (MField var : variables) {
+            columnNames.add(var.getName());
+        }
+
+        List<IndexMetadata> indexes = new ArrayList<>();
+        for (MIndex indexAnn : entityAnn.indexes()) {
+            List<String> keyNames = new ArrayList<>();
+            List<Boolean> descending = new ArrayList<>();
+
+            // 1. 키 컬럼 ("created_at DESC" -> 이름 + 정렬 방향)
+            for (String column : indexAnn.columns()) {
+                String[] parts = column.trim().split("\\s+");
+                keyNames.add(parts[0]);
+                descending.add(parts.length > 1 && "DESC".equalsIgnoreCase(parts[1]));
+            }
+
+            String indexName = indexAnn.name().isEmpty()
+                    ? "idx_" + tableName + "_" + String.join("_", keyNames)
+                    : indexAnn.name();
+
+            // 2. 검증: 키 컬럼이 하나 이상, 모든 컬럼이 엔티티에 존재
+            if (keyNames.isEmpty() || keyNames.contains("")) {
+                LogPrinter.error("INDEX", indexName, "Index requires at least one key column", element);
+                continue;
+            }
+            List<String> unknown = new ArrayList<>();
+            for (String name : keyNames) {
+                if (!columnNames.contains(name)) unknown.add(name);
+            }
+            for (String name : indexAnn.include()) {
+                if (!columnNames.contains(name)) unknown.add(name);
+            }
+            if (!unknown.isEmpty()) {
+                LogPrinter.error("INDEX", indexName, "Unknown column(s) " + unknown + " in index", element);
+                continue;
+            }
+
+            // 3. INCLUDE 절이 없는 DB(MySQL)는 UNIQUE 인덱스의 커버링 컬럼을 버림 (키에 붙이면 유일성 기준이 바뀜)
+            if (indexAnn.unique() && indexAnn.include().length > 0 && !sqlDialect.supportsIndexInclude()) {
+                LogPrinter.warn("INDEX", indexName, "INCLUDE columns are ignored on a unique index (not supported by this database)", element);
+            }
+
+            IndexMetadata.Builder builder = new IndexMetadata.Builder(indexName).unique(indexAnn.unique());
+            for (int i = 0; i < keyNames.size(); i++) {
+                builder.column(keyNames.get(i), descending.get(i));
+            }
+            for (String name : indexAnn.include()) {
+                builder.include(name);
+            }
+            indexes.add(builder.build());
+        }
+        return indexes;
+    }
+
+    /**
+     * @MEntity(partition = ...) 선언을 PartitionMetadata로 변환합니다. (파티셔닝 안 하면 null)
+     * PK와 UNIQUE 인덱스는 파티션 키를 포함해야 합니다. (두 DB 모두 파티션별로만 유일성을 검사할 수 있음)
+     */
+    private PartitionMetadata buildPartition(MPartition partitionAnn, List<MField> variables, List<IndexMetadata> indexes, TypeElement element) {
+        if (partitionAnn.type() == PartitionType.NONE) return null;
+
+        String column = partitionAnn.column();
+        PartitionMetadata.Builder builder = new PartitionMetadata.Builder(partitionAnn.type(), column).count(partitionAnn.count());
+        boolean valid = true;
+
+        // 1. 파티션 키 컬럼 존재 여부
+        boolean columnExists = false;
+        boolean pkIncludesKey = false;
+        for (MField var : variables) {
+            if (var.getName().equals(column)) columnExists = true;
+            if (var.isPrimaryKey() && var.getName().equals(column)) pkIncludesKey = true;
+
+            // UNIQUE 단일 컬럼 인덱스는 파티션 키 자신일 때만 가능
+            if (var.isUnique() && !var.getName().equals(column)) {
+                LogPrinter.error("PARTITION", var.getName(), "Unique index on a partitioned table must include partition key '" + column + "'", element);
+                valid = false;
+            }
+            // MySQL: 파티션 테이블에는 FK 불가
+            if (var.getType() == MFieldType.FK && !sqlDialect.supportsPartitionForeignKeys()) {
+                LogPrinter.error("PARTITION", var.getName(), "Partitioned tables cannot have foreign keys on this database", element);
+                valid = false;
+            }
+        }
+        if (!columnExists) {
+            LogPrinter.error("PARTITION", column, "Partition key column not found", element);
+            return null;
+        }
+
+        // 2. PK가 파티션 키를 포함해야 함
+        if (!pkIncludesKey) {
+            LogPrinter.error("PARTITION", column, "Primary key must include partition key (add primaryKey(true) to '" + column + "')", element);
+            valid = false;
+        }
+        for (IndexMetadata index : indexes) {
+            boolean containsKey = index.getColumns().stream().anyMatch(c -> c.getName().equals(column));
+            if (index.isUnique() && !containsKey) {
+                LogPrinter.error("PARTITION", index.getName(), "Unique index on a partitioned table must include partition key '" + column + "'", element);
+                valid = false;
+            }
+        }
+
+        // 3. 파티션 목록 (RANGE/LIST) 또는 개수 (HASH)
+        if (partitionAnn.type() == PartitionType.HASH) {
+            if (partitionAnn.count() < 1) {
+                LogPrinter.error("PARTITION", column, "HASH partitioning requires count >= 1", element);
+                valid = false;
+            }
+        } else {
+            if (partitionAnn.partitions().length == 0) {
+                LogPrinter.error("PARTITION", column, partitionAnn.type() + " partitioning requires at least one partition", element);
+                valid = false;
+            }
+            for (MPartitionBound bound : partitionAnn.partitions()) {
+                if (bound.values().length == 0 || (partitionAnn.type() == PartitionType.RANGE && bound.values().length != 1)) {
+                    LogPrinter.error("PARTITION", bound.name(), partitionAnn.type() == PartitionType.RANGE
+                            ? "RANGE partition requires exactly one upper bound" : "LIST partition requires at least one value", element);
+                    valid = false;
+                }
+                builder.bound(bound.name(), Arrays.asList(bound.values()));
+            }
+        }
+
+        return valid ? builder.build() : null;
+    }
+
+    /**
+     * @MEntity(storage = ...) 선언을 StorageMetadata로 변환합니다. (옵션이 없거나 잘못되면 null)
+     * 현재 DB에 없는 옵션(PostgreSQL에서 rowFormat 등)은 경고만 하고 무시합니다.
+     */
+    private StorageMetadata buildStorage(MStorage storageAnn, TypeElement element) {
+        StorageMetadata.Builder builder = new StorageMetadata.Builder()
+                .rowFormat(storageAnn.rowFormat())
+                .keyBlockSize(storageAnn.keyBlockSize());
+        boolean valid = true;
+
+        // 1. PostgreSQL 저장 파라미터 (서버와 같은 허용 범위)
+        if (storageAnn.fillfactor() != 0) {
+            if (storageAnn.fillfactor() < 10 || storageAnn.fillfactor() > 100) {
+                LogPrinter.error("STORAGE", "fillfactor", "fillfactor must be between 10 and 100", element);
+                valid = false;
+            }
+            builder.parameter("fillfactor", String.valueOf(storageAnn.fillfactor()));
+        }
+        valid &= scaleFactor(builder, "autovacuum_vacuum_scale_factor", storageAnn.autovacuumVacuumScaleFactor(), element);
+        valid &= scaleFactor(builder, "autovacuum_analyze_scale_factor", storageAnn.autovacuumAnalyzeScaleFactor(), element);
+        if (storageAnn.autovacuumVacuumThreshold() >= 0) {
+            builder.parameter("autovacuum_vacuum_threshold", String.valueOf(storageAnn.autovacuumVacuumThreshold()));
+        }
+
+        // 2. InnoDB 압축 페이지 크기
+        int keyBlockSize = storageAnn.keyBlockSize();
+        if (keyBlockSize != 0) {
+            if (!Arrays.asList(1, 2, 4, 8, 16).contains(keyBlockSize)) {
+                LogPrinter.error("STORAGE", "keyBlockSize", "keyBlockSize must be 1, 2, 4, 8 or 16", element);
+                valid = false;
+            }
+            if (storageAnn.rowFormat() != RowFormat.DEFAULT && storageAnn.rowFormat() != RowFormat.COMPRESSED) {
+                LogPrinter.error("STORAGE", "keyBlockSize", "keyBlockSize requires rowFormat COMPRESSED", element);
+                valid = false;
+            }
+        }
+
+        StorageMetadata storage = builder.build();
+        if (!valid || storage.isEmpty()) return null;
+
+        // 3. 이 DB가 적용하지 않는 옵션은 경고
+        Set<String> applied = sqlDialect.storageOptions(storage).keySet();
+        List<String> declared = new ArrayList<>(storage.getStorageParameters().keySet());
+        if (storage.getRowFormat() != RowFormat.DEFAULT) declared.add("row_format");
+        if (storage.getKeyBlockSize() > 0) declared.add("key_block_size");
+        for (String option : declared) {
+            if (!applied.contains(option)) {
+                LogPrinter.warn("STORAGE", option, "Storage option is not supported by this database and will be ignored", element);
+            }
+        }
+        return storage;
+    }
+
+    // 음수면 서버 기본값, 아니면 0~100
+    private boolean scaleFactor(StorageMetadata.Builder builder, String name, double value, TypeElement element) {
+        if (value < 0) return true;
+        if (value > 100) {
+            LogPrinter.error("STORAGE", name, name + " must be between 0 and 100", element);
+            return false;
+        }
+        builder.parameter(name, BigDecimal.valueOf(value).stripTrailingZeros().toPlainString());
+        return true;
+    }
+
+    /**
+     * 파티션 테이블을 참조하는 FK 검사 (참조하는 쪽 엔티티는 다른 파일일 수 있으므로 전체 로드 후 검사)
+     * - MySQL: 파티션 테이블은 참조될 수 없음
+     * - PostgreSQL: 참조 컬럼이 유일해야 하므로 PK가 파티션 키 한 컬럼일 때만 가능
+     */
+    private void validatePartitionReferences(List<TableMetadata> tables) {
+        Map<String, TableMetadata> partitioned = new HashMap<>();
+        for (TableMetadata table : tables) {
+            if (table.isPartitioned()) partitioned.put(table.getTableName(), table);
+        }
+        if (partitioned.isEmpty()) return;
+
+        for (TableMetadata table : tables) {
+            for (ColumnMetadata col : table.getColumns()) {
+                TableMetadata target = col.isForeignKey() ? partitioned.get(col.getFkTargetTable()) : null;
+                if (target == null) continue;
+
+                if (!sqlDialect.supportsPartitionForeignKeys()) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "[JPM] " + table.getTableName() + "." + col.getName()
+                            + ": foreign keys cannot reference partitioned table " + target.getTableName() + " on this database");
+                    continue;
+                }
+
+                long pkCount = target.getColumns().stream().filter(ColumnMetadata::isContainPrimaryKey).count();
+                if (pkCount != 1) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "[JPM] " + table.getTableName() + "." + col.getName()
+                            + ": foreign keys to partitioned table " + target.getTableName()
+                            + " require its primary key to be the partition key alone");
+                }
+            }
+        }
+    }
+
+    private String columnType(MField var) {
+        if (var.getType() == MFieldType.STRING) {
+            return "VARCHAR(" + var.getLength() + ")";
+        }
+        return mapToSqlType(var);
+    }
+
     private String mapToSqlType(MField var) {
         // 1. PK 처리 (PK가 숫자형일 경우 관례적으로 BIGINT 사용)
         if (var.isPrimaryKey() && (var.getType() == MFieldType.INTEGER || var.getType() == MFieldType.LONG)) {
@@ -256,9 +572,25 @@ public class AnnotationMetadataLoader implements MetadataLoader {
     }
 
     // --- Helper Class ---
+    // 한 엔티티 소스의 파싱 결과 (검증 전 MField + 위치가 붙은 문제 목록)
+    private static class ParsedSource {
+        final String filePath; // 트리 경로면 null
+        final List<MField> fields;
+        final List<String> problems;
+        ParsedSource(String filePath, List<MField> fields, List<String> problems) {
+            this.filePath = filePath;
+            this.fields = fields;
+            this.problems = problems;
+        }
+    }
+
     private static class EntityInfo {
         String tableName;
         String pkColumnName;
+        MField pkField;
+        List<IndexMetadata> indexes = Collections.emptyList();
+        PartitionMetadata partition;
+        StorageMetadata storage;
         EntityInfo(String t, String p) { tableName = t; pkColumnName = p; }
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package m_ddl_generator.plan;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 문장을 Statement.addBatch / executeBatch로 청크 단위 실행합니다.
+ * (문장마다 왕복하지 않고, 드라이버의 다중 쿼리 옵션(allowMultiQueries 등)에도 의존하지 않음)
+ *
+ * 실패하면 BatchUpdateException의 업데이트 카운트로 실패한 문장을 찾아
+ * "[종류 테이블] #번호/전체" 형태로 어느 문장에서 멈췄는지 알려 줍니다.
+ * 카운트를 주지 않는 드라이버는 청크 범위로 알려 줍니다.
+ *
+ * 실패 뒤에도 청크를 끝까지 실행하는 드라이버(MySQL Connector/J 기본값 continueBatchOnError=true)는
+ * 실패한 문장 뒤의 문장이 이미 적용되어 있으므로, 카운트로 확인한 "이미 실행된 뒤 문장"도 함께 알려 줍니다.
+ */
+public class DdlBatchExecutor {
+
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    private final int batchSize;
+
+    public DdlBatchExecutor(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * @param progress 청크가 끝날 때마다 지금까지 실행한 문장 수를 받음
+     */
+    public void execute(Connection connection, List<DdlStatement> statements, IntConsumer progress) throws SQLException {
+        int total = statements.size();
+        try (Statement stmt = connection.createStatement()) {
+            for (int start = 0; start < total; start += batchSize) {
+                int end = Math.min(start + batchSize, total);
+
+                // 1. 한 문장짜리 청크는 배치 없이 바로 실행
+                if (end - start == 1) {
+                    try {
+                        stmt.execute(statements.get(start).getSql());
+                    } catch (SQLException e) {
+                        throw attribute(e, statements, start, start);
+                    }
+                } else {
+                    // 2. 청크를 한 번에 전송
+                    for (DdlStatement statement : statements.subList(start, end)) {
+                        stmt.addBatch(statement.getSql());
+                    }
+                    try {
+                        stmt.executeBatch();
+                    } catch (BatchUpdateException e) {
+                        int failed = failedOffset(e, end - start);
+                        if (failed < 0) {
+                            throw attribute(e, statements, start, end - 1);
+                        }
+                        throw executedAfter(attribute(e, statements, start + failed, start + failed),
+                                e, start, start + failed, end);
+                    } finally {
+                        stmt.clearBatch();
+                    }
+                }
+
+                progress.accept(end);
+            }
+        }
+    }
+
+    /**
+     * 청크 안에서 실패한 문장의 위치 (알 수 없으면 -1)
+     * - 실패에서 멈추는 드라이버: 카운트 배열 길이 = 앞에서 성공한 문장 수
+     * - 끝까지 계속하는 드라이버 (MySQL continueBatchOnError): 첫 EXECUTE_FAILED 위치
+     */
+    private static int failedOffset(BatchUpdateException e, int chunkSize) {
+        int[] counts = e.getUpdateCounts();
+        if (counts == null) return -1;
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.EXECUTE_FAILED) return i;
+        }
+        return counts.length < chunkSize ? counts.length : -1;
+    }
+
+    /**
+     * 실패한 문장 뒤에서 이미 실행된 문장을 메시지에 덧붙임
+     * (카운트 배열이 청크 전체를 덮을 때만 = 드라이버가 실패 뒤에도 계속 실행한 경우, EXECUTE_FAILED가 아닌 문장)
+     */
+    private static SQLException executedAfter(SQLException attributed, BatchUpdateException e, int start, int failed, int end) {
+        int[] counts = e.getUpdateCounts();
+        if (counts.length < end - start) return attributed;
+
+        StringBuilder ran = new StringBuilder();
+        for (int i = failed + 1; i < end; i++) {
+            if (counts[i - start] != Statement.EXECUTE_FAILED) {
+                ran.append(ran.length() == 0 ? "#" : ", #").append(i + 1);
+            }
+        }
+        if (ran.length() == 0) return attributed;
+
+        return new SQLException(attributed.getMessage() + " (batch continued after the failure: " + ran + " already executed)",
+                attributed.getSQLState(), attributed.getErrorCode(), e);
+    }
+
+    private static SQLException attribute(SQLException e, List<DdlStatement> statements, int from, int to) {
+        // 배치 예외는 실제 원인이 next exception에 들어 있는 경우가 많음
+        SQLException cause = e.getNextException() != null ? e.getNextException() : e;
+        DdlStatement statement = statements.get(from);
+
+        String position = from == to
+                ? "#" + (from + 1) + "/" + statements.size() + " [" + statement.getKind() + " " + statement.getTable() + "]"
+                : "#" + (from + 1) + "-#" + (to + 1) + "/" + statements.size();
+        return new SQLException(position + " " + cause.getMessage(), cause.getSQLState(), cause.getErrorCode(), e);
+    }
+}
@@ -0,0 +1,65 @@
+package m_ddl_generator.plan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 실행 순서대로 나열한 DDL 문장 목록 (DdlScriptBuilder가 만들고 XML 작성기, 즉시 실행, 생성된 Executor가 사용)
+ * 문장 단위로 보관하므로 쓰는 쪽에서 문장별로 실행/재배치/건너뛰기할 수 있습니다.
+ */
+public class DdlPlan {
+
+    private final List<DdlStatement> statements = new ArrayList<>();
+
+    /**
+     * 빈 SQL은 추가하지 않음
+     */
+    public DdlPlan add(DdlStatement statement) {
+        if (statement.getSql().isEmpty()) return this;
+        statements.add(statement);
+        return this;
+    }
+
+    public DdlPlan addAll(Collection<DdlStatement> statements) {
+        for (DdlStatement statement : statements) {
+            add(statement);
+        }
+        return this;
+    }
+
+    public List<DdlStatement> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    /**
+     * 하나의 트랜잭션(메인 스크립트)으로 실행할 문장
+     */
+    public List<DdlStatement> getTransactional() {
+        List<DdlStatement> result = new ArrayList<>();
+        for (DdlStatement statement : statements) {
+            if (!statement.isOutsideTransaction()) result.add(statement);
+        }
+        return result;
+    }
+
+    /**
+     * 메인 스크립트 이후 autocommit 상태에서 한 문장씩 실행할 문장
+     */
+    public List<DdlStatement> getStandalone() {
+        List<DdlStatement> result = new ArrayList<>();
+        for (DdlStatement statement : statements) {
+            if (statement.isOutsideTransaction()) result.add(statement);
+        }
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return statements.isEmpty();
+    }
+
+    public int size() {
+        return statements.size();
+    }
+}
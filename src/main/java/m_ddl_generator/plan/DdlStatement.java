@@ -0,0 +1,76 @@
+package m_ddl_generator.plan;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * DDL 문장 하나 (세미콜론 없이 보관, 출력/실행하는 쪽에서 구분자 처리)
+ * - table: 이 문장이 바꾸는 테이블
+ * - dependsOn: 이 문장보다 먼저 처리되어 있어야 하는 다른 테이블
+ *   (CREATE / FK 추가: FK 부모, 파티션 부모 / DROP_TABLE: 이 테이블을 참조하는 자식)
+ */
+public class DdlStatement {
+
+    public enum Kind {
+        DROP_FOREIGN_KEY("1. TABLES"),
+        DROP_TABLE("1. TABLES"),
+        CREATE_TABLE("1. TABLES"),
+        CREATE_PARTITION("1. TABLES"),
+        ADD_COLUMN("2. COLUMNS"),
+        ALTER_STORAGE("2-1. STORAGE OPTIONS"),
+        ADD_FOREIGN_KEY("3. FOREIGN KEYS"),
+        CREATE_INDEX("4. INDEXES");
+
+        // ddl.xml 구역 주석
+        private final String section;
+
+        Kind(String section) {
+            this.section = section;
+        }
+
+        public String getSection() { return section; }
+    }
+
+    private final Kind kind;
+    private final String table;
+    private final String sql;
+    private final Set<String> dependsOn;
+    // 트랜잭션 밖에서 한 문장씩 실행 (PostgreSQL CREATE INDEX CONCURRENTLY)
+    private final boolean outsideTransaction;
+
+    public DdlStatement(Kind kind, String table, String sql) {
+        this(kind, table, sql, Collections.emptySet(), false);
+    }
+
+    public DdlStatement(Kind kind, String table, String sql, Collection<String> dependsOn, boolean outsideTransaction) {
+        this.kind = kind;
+        this.table = table;
+        this.sql = stripTerminator(sql);
+        Set<String> deps = new LinkedHashSet<>(dependsOn);
+        deps.remove(table);
+        this.dependsOn = Collections.unmodifiableSet(deps);
+        this.outsideTransaction = outsideTransaction;
+    }
+
+    public Kind getKind() { return kind; }
+    public String getTable() { return table; }
+    public String getSql() { return sql; }
+    public Set<String> getDependsOn() { return dependsOn; }
+    public boolean isOutsideTransaction() { return outsideTransaction; }
+
+    // 방언이 돌려준 SQL 끝의 공백/세미콜론 제거
+    private static String stripTerminator(String sql) {
+        String trimmed = sql.trim();
+        while (trimmed.endsWith(";")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1).trim();
+        }
+        return trimmed;
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + table + ": " + sql;
+    }
+}
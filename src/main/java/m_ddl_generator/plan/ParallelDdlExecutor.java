@@ -0,0 +1,188 @@
+package m_ddl_generator.plan;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * DdlPlan을 FK 의존 관계(DAG)에 따라 여러 커넥션에서 동시에 실행합니다.
+ *
+ * - 각 문장의 선행 문장: 같은 테이블의 직전 문장 + dependsOn 테이블의 (계획 순서상) 직전 문장
+ *   간선이 항상 계획의 앞쪽 문장을 가리키므로 순환이 생기지 않고, 부모 -> 자식 순서가 그대로 유지됨
+ *   (DROP_TABLE의 dependsOn은 자식 테이블이므로 자식 DROP 또는 순환 FK 제거가 끝난 뒤 부모를 지움)
+ * - 서로 관계없는 테이블의 CREATE TABLE / 인덱스 생성이 동시에 실행됨
+ * - 커넥션마다 트랜잭션이 다르므로 문장마다 autocommit (계획 전체를 하나의 트랜잭션으로 묶지 않음)
+ * - 준비된 문장은 계획 순서대로 시작하고, 하나라도 실패하면 새 문장은 시작하지 않고 실행 중인 문장이 끝나길 기다린 뒤,
+ *   실패를 계획 순서대로 정렬한 보고서를 예외로 던짐 (동시 실행 순서와 무관하게 같은 형식)
+ */
+public class ParallelDdlExecutor {
+
+    private final DataSource dataSource;
+    private final int parallelism;
+
+    public ParallelDdlExecutor(DataSource dataSource, int parallelism) {
+        this.dataSource = dataSource;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public void execute(DdlPlan plan) throws SQLException {
+        List<DdlStatement> statements = plan.getStatements();
+        int size = statements.size();
+        if (size == 0) return;
+
+        // 1. 선행 관계 구성 (pending[i] = 아직 끝나지 않은 선행 문장 수)
+        int[] pending = new int[size];
+        List<List<Integer>> followers = new ArrayList<>(size);
+        Map<String, Integer> lastByTable = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            DdlStatement statement = statements.get(i);
+            Set<Integer> predecessors = new LinkedHashSet<>();
+            addIfPresent(predecessors, lastByTable.get(statement.getTable()));
+            for (String parent : statement.getDependsOn()) {
+                addIfPresent(predecessors, lastByTable.get(parent));
+            }
+
+            followers.add(new ArrayList<>());
+            pending[i] = predecessors.size();
+            for (int predecessor : predecessors) {
+                followers.get(predecessor).add(i);
+            }
+            lastByTable.put(statement.getTable(), i);
+        }
+
+        // 2. 워커 수만큼 커넥션을 열어 두고 작업마다 빌려 씀
+        int workers = Math.min(parallelism, size);
+        BlockingQueue<Connection> connections = new ArrayBlockingQueue<>(workers);
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            for (int i = 0; i < workers; i++) {
+                Connection connection = dataSource.getConnection();
+                connection.setAutoCommit(true);
+                connections.add(connection);
+            }
+
+            // 3. 선행 문장이 끝난 문장을 계획 순서대로 꺼내서, 빈 워커가 있을 때만 제출
+            //    (대기열에 미리 쌓아 두지 않으므로 실패 후에는 새 문장이 시작되지 않음)
+            CompletionService<Outcome> completion = new ExecutorCompletionService<>(pool);
+            PriorityQueue<Integer> ready = new PriorityQueue<>();
+            for (int i = 0; i < size; i++) {
+                if (pending[i] == 0) ready.add(i);
+            }
+
+            List<Outcome> failures = new ArrayList<>();
+            int running = 0;
+            int completed = 0;
+            do {
+                while (failures.isEmpty() && running < workers && !ready.isEmpty()) {
+                    int next = ready.poll();
+                    completion.submit(task(next, statements.get(next), connections));
+                    running++;
+                }
+                if (running == 0) break;
+
+                Outcome outcome = take(completion);
+                running--;
+                if (outcome.error != null) {
+                    failures.add(outcome);
+                    continue;
+                }
+
+                completed++;
+                for (int follower : followers.get(outcome.index)) {
+                    if (--pending[follower] == 0) ready.add(follower);
+                }
+            } while (true);
+
+            if (!failures.isEmpty()) {
+                throw report(failures, statements, size - completed - failures.size());
+            }
+        } finally {
+            pool.shutdown();
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // 닫기 실패는 결과에 영향 없음
+                }
+            }
+        }
+    }
+
+    private static void addIfPresent(Set<Integer> target, Integer index) {
+        if (index != null) target.add(index);
+    }
+
+    private static Callable<Outcome> task(int index, DdlStatement statement, BlockingQueue<Connection> connections) {
+        return () -> {
+            Connection connection = connections.take();
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute(statement.getSql());
+                return new Outcome(index, null);
+            } catch (SQLException e) {
+                return new Outcome(index, e);
+            } finally {
+                connections.add(connection);
+            }
+        };
+    }
+
+    private static Outcome take(CompletionService<Outcome> completion) throws SQLException {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("DDL execution interrupted", e);
+        } catch (ExecutionException e) {
+            throw new SQLException("DDL execution failed: " + e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * 실패 문장을 계획 순서대로 나열한 예외 (첫 실패의 SQLState/에러 코드를 그대로 사용)
+     */
+    private static SQLException report(List<Outcome> failures, List<DdlStatement> statements, int skipped) {
+        failures.sort((a, b) -> Integer.compare(a.index, b.index));
+
+        StringBuilder message = new StringBuilder();
+        message.append(failures.size()).append(" DDL statement(s) failed, ").append(skipped).append(" not started:");
+        for (Outcome failure : failures) {
+            DdlStatement statement = statements.get(failure.index);
+            message.append("\n  #").append(failure.index + 1)
+                    .append(" [").append(statement.getKind()).append(' ').append(statement.getTable()).append("] ")
+                    .append(failure.error.getMessage());
+        }
+
+        SQLException first = failures.get(0).error;
+        SQLException result = new SQLException(message.toString(), first.getSQLState(), first.getErrorCode(), first);
+        for (Outcome failure : failures.subList(1, failures.size())) {
+            result.addSuppressed(failure.error);
+        }
+        return result;
+    }
+
+    private static class Outcome {
+        final int index;
+        final SQLException error;
+
+        Outcome(int index, SQLException error) {
+            this.index = index;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package m_ddl_generator.plan;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 트랜잭션 DDL을 지원하는 DB(PostgreSQL)에서 계획 전체를 하나의 트랜잭션으로 적용합니다.
+ *
+ * - 계획 순서에서 같은 테이블, 같은 종류의 연속된 문장을 한 단위로 묶고, 단위마다 세이브포인트를 둠
+ *   (테이블의 모든 문장을 한 단위로 모으면 순환 FK가 서로를 기다리게 되므로 계획 순서를 바꾸지 않음)
+ * - 실패한 단위는 세이브포인트로 되돌리고 건너뜀. 실패한 테이블에 의존하는 뒤 단위도 건너뜀
+ * - 건너뛴 단위는 나머지를 모두 적용한 뒤 같은 트랜잭션에서 한 번 더 시도
+ * - 커밋은 마지막에 한 번 (되돌린 단위를 뺀 나머지가 함께 커밋됨)
+ * - 트랜잭션 밖에서 실행해야 하는 문장(CREATE INDEX CONCURRENTLY)은 커밋 후 autocommit으로 실행
+ */
+public class SavepointDdlExecutor {
+
+    /**
+     * @return 재시도 후에도 적용되지 못한 단위의 오류 (계획 순서, 비어 있으면 전부 적용됨)
+     */
+    public List<SQLException> execute(Connection connection, DdlPlan plan) throws SQLException {
+        List<SQLException> failures = new ArrayList<>();
+        Set<String> failedTables = new HashSet<>();
+
+        connection.setAutoCommit(false);
+        try (Statement stmt = connection.createStatement()) {
+            // 1. 첫 시도: 실패/의존 때문에 건너뛴 단위는 재시도 목록으로
+            List<List<DdlStatement>> retry = new ArrayList<>();
+            for (List<DdlStatement> unit : units(plan.getTransactional())) {
+                if (apply(connection, stmt, unit, failedTables) != null) {
+                    retry.add(unit);
+                }
+            }
+
+            // 2. 재시도: 나머지가 모두 적용된 상태에서 한 번 더 (이번에도 실패하면 보고)
+            failedTables.clear();
+            for (List<DdlStatement> unit : retry) {
+                SQLException error = apply(connection, stmt, unit, failedTables);
+                if (error != null) failures.add(error);
+            }
+
+            // 3. 한 번에 커밋
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+
+        // 4. 트랜잭션 밖 문장: 실패한 테이블의 문장은 실행하지 않음
+        connection.setAutoCommit(true);
+        try (Statement stmt = connection.createStatement()) {
+            for (DdlStatement statement : plan.getStandalone()) {
+                if (failedTables.contains(statement.getTable())) {
+                    failures.add(new SQLException("[" + statement.getKind() + " " + statement.getTable() + "] skipped: earlier statement of the table failed"));
+                    continue;
+                }
+                try {
+                    stmt.execute(statement.getSql());
+                } catch (SQLException e) {
+                    failures.add(attribute(statement, e));
+                }
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * 단위 하나를 세이브포인트 안에서 실행합니다. 실패하면 되돌리고 테이블을 실패 목록에 넣음
+     * @return 실패(또는 의존 테이블 실패로 건너뜀) 사유, 성공하면 null
+     */
+    private static SQLException apply(Connection connection, Statement stmt, List<DdlStatement> unit, Set<String> failedTables) throws SQLException {
+        DdlStatement first = unit.get(0);
+        for (DdlStatement statement : unit) {
+            for (String parent : statement.getDependsOn()) {
+                if (failedTables.contains(parent)) {
+                    failedTables.add(first.getTable());
+                    return new SQLException("[" + first.getKind() + " " + first.getTable() + "] skipped: depends on failed table " + parent);
+                }
+            }
+        }
+        if (failedTables.contains(first.getTable())) {
+            return new SQLException("[" + first.getKind() + " " + first.getTable() + "] skipped: earlier statement of the table failed");
+        }
+
+        Savepoint savepoint = connection.setSavepoint();
+        for (DdlStatement statement : unit) {
+            try {
+                stmt.execute(statement.getSql());
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                failedTables.add(first.getTable());
+                return attribute(statement, e);
+            }
+        }
+        connection.releaseSavepoint(savepoint);
+        return null;
+    }
+
+    /**
+     * 계획 순서를 유지한 채 같은 테이블, 같은 종류의 연속된 문장을 묶음 (예: FK 컬럼 추가 + 제약조건 + VALIDATE)
+     */
+    private static List<List<DdlStatement>> units(List<DdlStatement> statements) {
+        List<List<DdlStatement>> units = new ArrayList<>();
+        List<DdlStatement> current = null;
+        for (DdlStatement statement : statements) {
+            if (current == null || !current.get(0).getTable().equals(statement.getTable())
+                    || current.get(0).getKind() != statement.getKind()) {
+                current = new ArrayList<>();
+                units.add(current);
+            }
+            current.add(statement);
+        }
+        return units;
+    }
+
+    private static SQLException attribute(DdlStatement statement, SQLException e) {
+        return new SQLException("[" + statement.getKind() + " " + statement.getTable() + "] " + e.getMessage(),
+                e.getSQLState(), e.getErrorCode(), e);
+    }
+}
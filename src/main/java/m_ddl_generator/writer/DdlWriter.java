@@ -1,7 +1,13 @@
 package m_ddl_generator.writer;
 
+import m_ddl_generator.plan.DdlPlan;
+
 import java.io.IOException;
 
 public interface DdlWriter {
-    void write(String content) throws IOException;
+    /**
+     * DDL 계획을 실행 가능한 형태(ddl.xml 등)로 기록합니다.
+     * 트랜잭션 밖에서 실행할 문장(DdlPlan.getStandalone)은 메인 문장과 따로 기록합니다.
+     */
+    void write(DdlPlan plan) throws IOException;
 }
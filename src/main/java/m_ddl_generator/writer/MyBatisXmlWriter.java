@@ -1,34 +1,72 @@
 package m_ddl_generator.writer;
 
+import m_ddl_generator.plan.DdlPlan;
+import m_ddl_generator.plan.DdlStatement;
+
 import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.List;
 
 public class MyBatisXmlWriter implements DdlWriter {
+    // 별도 실행 문장의 id: execute_auto_ddl_standalone_1, _2, ... (AutoDDLExecutor가 순서대로 실행)
+    public static final String STANDALONE_ID_PREFIX = "execute_auto_ddl_standalone_";
+
     private final Filer filer;
     private final String namespace;
+    // 생성 파일의 원본 엔티티 목록 (originating elements)
+    private final Element[] originatingElements;
 
-    public MyBatisXmlWriter(Filer filer, String namespace) {
+    public MyBatisXmlWriter(Filer filer, String namespace, Element... originatingElements) {
         this.filer = filer;
         this.namespace = namespace;
+        this.originatingElements = originatingElements;
     }
 
+    /**
+     * Filer가 연 Writer에 문장 단위로 바로 기록합니다. (스크립트 전체를 문자열로 다시 만들지 않음)
+     */
     @Override
-    public void write(String sqlBody) throws IOException {
-        StringBuilder xml = new StringBuilder();
-        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n");
-        xml.append("<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n");
-        xml.append("<mapper namespace=\"").append(namespace).append("\">\n");
-        xml.append("    <update id=\"execute_auto_ddl\" statementType=\"STATEMENT\">\n");
-        xml.append(sqlBody);
-        xml.append("\n    </update>\n");
-        xml.append("</mapper>");
-
-        FileObject file = filer.createResource(StandardLocation.SOURCE_OUTPUT, "", "ddl/ddl.xml");
-        try (Writer writer = file.openWriter()) {
-            writer.write(xml.toString());
+    public void write(DdlPlan plan) throws IOException {
+        FileObject file = filer.createResource(StandardLocation.SOURCE_OUTPUT, "", "ddl/ddl.xml", originatingElements);
+        try (Writer xml = new BufferedWriter(file.openWriter())) {
+            xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n");
+            xml.append("<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n");
+            xml.append("<mapper namespace=\"").append(namespace).append("\">\n");
+            xml.append("    <update id=\"execute_auto_ddl\" statementType=\"STATEMENT\">\n");
+            xml.append("<![CDATA[\n");
+            appendScript(xml, plan.getStatements());
+            xml.append("]]>");
+            xml.append("\n    </update>\n");
+
+            int standaloneIndex = 0;
+            for (DdlStatement statement : plan.getStatements()) {
+                if (!statement.isOutsideTransaction()) continue;
+                xml.append("    <update id=\"").append(STANDALONE_ID_PREFIX).append(String.valueOf(++standaloneIndex)).append("\" statementType=\"STATEMENT\">\n");
+                xml.append("<![CDATA[\n\t").append(statement.getSql()).append("\n]]>");
+                xml.append("\n    </update>\n");
+            }
+            xml.append("</mapper>");
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 실행할 문장마다 세미콜론을 붙이고, 종류(구역)가 바뀔 때마다 구역 주석을 넣음
+     */
+    private static void appendScript(Writer xml, List<DdlStatement> statements) throws IOException {
+        String section = null;
+        for (DdlStatement statement : statements) {
+            if (statement.isOutsideTransaction()) continue;
+            if (!statement.getKind().getSection().equals(section)) {
+                if (section != null) xml.append("\n");
+                section = statement.getKind().getSection();
+                xml.append("\t/* --- ").append(section).append(" --- */\n");
+            }
+            xml.append("\t").append(statement.getSql()).append(";\n");
         }
     }
-}
\ No newline at end of file
+}
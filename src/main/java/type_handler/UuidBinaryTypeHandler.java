@@ -0,0 +1,42 @@
+package type_handler;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedJdbcTypes;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * UUID <-> MySQL BINARY(16) (-AuuidBinary=true 로 생성한 UUID_V_7 컬럼)
+ *
+ * 등록: configuration.getTypeHandlerRegistry().register(UUID.class, new UuidBinaryTypeHandler());
+ */
+@MappedTypes(UUID.class)
+@MappedJdbcTypes(JdbcType.BINARY)
+public class UuidBinaryTypeHandler extends BaseTypeHandler<UUID> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, UUID parameter, JdbcType jdbcType) throws SQLException {
+        ps.setBytes(i, UuidCodec.toBytes(parameter));
+    }
+
+    @Override
+    public UUID getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return UuidCodec.fromBytes(rs.getBytes(columnName));
+    }
+
+    @Override
+    public UUID getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return UuidCodec.fromBytes(rs.getBytes(columnIndex));
+    }
+
+    @Override
+    public UUID getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return UuidCodec.fromBytes(cs.getBytes(columnIndex));
+    }
+}
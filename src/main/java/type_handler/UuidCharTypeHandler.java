@@ -0,0 +1,40 @@
+package type_handler;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedJdbcTypes;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * UUID <-> MySQL CHAR(36) (uuidBinary를 쓰지 않는 기존 UUID_V_7 컬럼)
+ */
+@MappedTypes(UUID.class)
+@MappedJdbcTypes(JdbcType.CHAR)
+public class UuidCharTypeHandler extends BaseTypeHandler<UUID> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, UUID parameter, JdbcType jdbcType) throws SQLException {
+        ps.setString(i, UuidCodec.toText(parameter));
+    }
+
+    @Override
+    public UUID getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return UuidCodec.fromText(rs.getString(columnName));
+    }
+
+    @Override
+    public UUID getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return UuidCodec.fromText(rs.getString(columnIndex));
+    }
+
+    @Override
+    public UUID getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return UuidCodec.fromText(cs.getString(columnIndex));
+    }
+}
@@ -0,0 +1,46 @@
+package type_handler;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedJdbcTypes;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * UUID <-> PostgreSQL uuid (이미 16바이트 네이티브 타입이므로 드라이버에 UUID 객체를 그대로 전달)
+ */
+@MappedTypes(UUID.class)
+@MappedJdbcTypes(JdbcType.OTHER)
+public class UuidObjectTypeHandler extends BaseTypeHandler<UUID> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, UUID parameter, JdbcType jdbcType) throws SQLException {
+        ps.setObject(i, parameter);
+    }
+
+    @Override
+    public UUID getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toUuid(rs.getObject(columnName));
+    }
+
+    @Override
+    public UUID getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toUuid(rs.getObject(columnIndex));
+    }
+
+    @Override
+    public UUID getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toUuid(cs.getObject(columnIndex));
+    }
+
+    // 드라이버에 따라 UUID 또는 문자열로 반환됨
+    private static UUID toUuid(Object value) {
+        if (value == null || value instanceof UUID) return (UUID) value;
+        return UuidCodec.fromText(value.toString());
+    }
+}
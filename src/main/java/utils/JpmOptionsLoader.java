@@ -70,6 +70,18 @@ public class JpmOptionsLoader {
                     finalOptions.put("auto", props.getProperty("jpm.ddl.auto"));
                 }
 
+                if (props.containsKey("jpm.ddl.parallelism")) {
+                    finalOptions.put("ddlParallelism", props.getProperty("jpm.ddl.parallelism"));
+                }
+
+                if (props.containsKey("jpm.ddl.batch-size")) {
+                    finalOptions.put("ddlBatchSize", props.getProperty("jpm.ddl.batch-size"));
+                }
+
+                if (props.containsKey("jpm.ddl.atomic")) {
+                    finalOptions.put("atomicDdl", props.getProperty("jpm.ddl.atomic"));
+                }
+
             } catch (IOException e) {
                 processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
                         "⚠️ [JPM] Properties file read error: " + e.getMessage());
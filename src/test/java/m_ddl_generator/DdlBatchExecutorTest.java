@@ -0,0 +1,92 @@
+package m_ddl_generator;
+
+import m_ddl_generator.StubJdbc.BatchMode;
+import m_ddl_generator.plan.DdlBatchExecutor;
+import m_ddl_generator.plan.DdlStatement;
+import m_ddl_generator.plan.DdlStatement.Kind;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * DdlBatchExecutor의 실패 위치 보고를 스텁 드라이버별로 확인
+ * (실패에서 멈추는 드라이버 / 끝까지 계속하는 드라이버 / 카운트를 주지 않는 드라이버)
+ */
+class DdlBatchExecutorTest {
+
+    private static final List<DdlStatement> STATEMENTS = Arrays.asList(
+            statement("a"), statement("b"), statement("c"), statement("d"), statement("e"));
+
+    // 멈추는 드라이버: 카운트 배열 길이 = 실패한 문장의 청크 내 위치, 뒤 문장은 실행되지 않음
+    @Test
+    void stopOnErrorReportsFailedStatement() {
+        StubJdbc jdbc = new StubJdbc().batchMode(BatchMode.STOP).fail("CREATE TABLE b");
+
+        SQLException e = assertThrows(SQLException.class,
+                () -> new DdlBatchExecutor(10).execute(jdbc.connection(), STATEMENTS, done -> { }));
+
+        assertEquals("#2/5 [CREATE_TABLE b] failed: CREATE TABLE b", e.getMessage());
+        assertEquals(Arrays.asList("CREATE TABLE a"), jdbc.executed());
+    }
+
+    // 계속하는 드라이버: 첫 EXECUTE_FAILED가 실패 위치, 그 뒤에 이미 실행된 문장도 알려 줌
+    @Test
+    void continueOnErrorReportsStatementsThatAlreadyRan() {
+        StubJdbc jdbc = new StubJdbc().batchMode(BatchMode.CONTINUE).fail("CREATE TABLE b").fail("CREATE TABLE d");
+
+        SQLException e = assertThrows(SQLException.class,
+                () -> new DdlBatchExecutor(10).execute(jdbc.connection(), STATEMENTS, done -> { }));
+
+        assertEquals("#2/5 [CREATE_TABLE b] failed: CREATE TABLE b (batch continued after the failure: #3, #5 already executed)",
+                e.getMessage());
+        assertEquals(Arrays.asList("CREATE TABLE a", "CREATE TABLE c", "CREATE TABLE e"), jdbc.executed());
+    }
+
+    // 카운트가 없으면 청크 범위로 보고
+    @Test
+    void missingCountsReportChunkRange() {
+        StubJdbc jdbc = new StubJdbc().batchMode(BatchMode.NO_COUNTS).fail("CREATE TABLE b");
+
+        SQLException e = assertThrows(SQLException.class,
+                () -> new DdlBatchExecutor(10).execute(jdbc.connection(), STATEMENTS, done -> { }));
+
+        assertEquals("#1-#5/5 failed: CREATE TABLE b", e.getMessage());
+    }
+
+    // 뒤 청크의 실패도 계획 전체 기준 번호, 끝난 청크까지만 진행 보고
+    @Test
+    void laterChunkFailureIsNumberedFromPlanStart() {
+        StubJdbc jdbc = new StubJdbc().batchMode(BatchMode.STOP).fail("CREATE TABLE d");
+        List<Integer> progress = new ArrayList<>();
+
+        SQLException e = assertThrows(SQLException.class,
+                () -> new DdlBatchExecutor(2).execute(jdbc.connection(), STATEMENTS, progress::add));
+
+        assertEquals("#4/5 [CREATE_TABLE d] failed: CREATE TABLE d", e.getMessage());
+        assertEquals(Arrays.asList(2), progress);
+        assertEquals(Arrays.asList("CREATE TABLE a", "CREATE TABLE b", "CREATE TABLE c"), jdbc.executed());
+    }
+
+    // 마지막 한 문장짜리 청크는 배치 없이 실행
+    @Test
+    void singleStatementChunkRunsWithoutBatch() {
+        StubJdbc jdbc = new StubJdbc().batchMode(BatchMode.STOP).fail("CREATE TABLE e");
+        List<Integer> progress = new ArrayList<>();
+
+        SQLException e = assertThrows(SQLException.class,
+                () -> new DdlBatchExecutor(2).execute(jdbc.connection(), STATEMENTS, progress::add));
+
+        assertEquals("#5/5 [CREATE_TABLE e] failed: CREATE TABLE e", e.getMessage());
+        assertEquals(Arrays.asList(2, 4), progress);
+    }
+
+    private static DdlStatement statement(String table) {
+        return new DdlStatement(Kind.CREATE_TABLE, table, "CREATE TABLE " + table);
+    }
+}
@@ -0,0 +1,93 @@
+package m_ddl_generator;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 방언별 생성 DDL 골든 테스트 (DB 접속 없이 ddl.xml 내용만 비교)
+ *
+ * - relations: FK CASCADE, UUID 부모 PK, 순환 참조(Dept <-> Emp), 복합/커버링 인덱스
+ * - partitions: RANGE / LIST / HASH
+ * - index_methods_*: 방언마다 허용되는 인덱스 방식이 달라 픽스처를 나눔
+ * - onlineDdl=true: 온라인 ALTER 절 (MySQL) / CONCURRENTLY, NOT VALID + VALIDATE (PostgreSQL)
+ */
+class DialectGoldenDdlTest {
+
+    @Test
+    void relationsMySqlCreate() throws Exception {
+        GoldenDdl.assertMatches("relations_mysql_create",
+                GoldenDdl.generate("relations", "dbType=MYSQL", "auto=CREATE"));
+    }
+
+    @Test
+    void relationsPostgresCreate() throws Exception {
+        GoldenDdl.assertMatches("relations_postgres_create",
+                GoldenDdl.generate("relations", "dbType=POSTGRES", "auto=CREATE"));
+    }
+
+    @Test
+    void relationsMySqlDrop() throws Exception {
+        GoldenDdl.assertMatches("relations_mysql_drop",
+                GoldenDdl.generate("relations", "dbType=MYSQL", "auto=DROP"));
+    }
+
+    @Test
+    void relationsPostgresDrop() throws Exception {
+        GoldenDdl.assertMatches("relations_postgres_drop",
+                GoldenDdl.generate("relations", "dbType=POSTGRES", "auto=DROP"));
+    }
+
+    // ALTER: 기존 테이블에도 없는 컬럼 / FK 제약조건만 추가되는 "없으면 추가" 문장
+    @Test
+    void relationsMySqlAlter() throws Exception {
+        GoldenDdl.assertMatches("relations_mysql_alter",
+                GoldenDdl.generate("relations", "dbType=MYSQL", "auto=ALTER"));
+    }
+
+    @Test
+    void relationsPostgresAlter() throws Exception {
+        GoldenDdl.assertMatches("relations_postgres_alter",
+                GoldenDdl.generate("relations", "dbType=POSTGRES", "auto=ALTER"));
+    }
+
+    @Test
+    void relationsMySqlAlterOnline() throws Exception {
+        GoldenDdl.assertMatches("relations_mysql_alter_online",
+                GoldenDdl.generate("relations", "dbType=MYSQL", "auto=ALTER", "onlineDdl=true"));
+    }
+
+    @Test
+    void relationsPostgresAlterOnline() throws Exception {
+        GoldenDdl.assertMatches("relations_postgres_alter_online",
+                GoldenDdl.generate("relations", "dbType=POSTGRES", "auto=ALTER", "onlineDdl=true"));
+    }
+
+    @Test
+    void partitionsMySql() throws Exception {
+        GoldenDdl.assertMatches("partitions_mysql",
+                GoldenDdl.generate("partitions", "dbType=MYSQL", "auto=CREATE"));
+    }
+
+    @Test
+    void partitionsPostgres() throws Exception {
+        GoldenDdl.assertMatches("partitions_postgres",
+                GoldenDdl.generate("partitions", "dbType=POSTGRES", "auto=CREATE"));
+    }
+
+    @Test
+    void indexMethodsMySql() throws Exception {
+        GoldenDdl.assertMatches("index_methods_mysql",
+                GoldenDdl.generate("index_methods_mysql", "dbType=MYSQL", "auto=CREATE"));
+    }
+
+    @Test
+    void indexMethodsPostgres() throws Exception {
+        GoldenDdl.assertMatches("index_methods_postgres",
+                GoldenDdl.generate("index_methods_postgres", "dbType=POSTGRES", "auto=CREATE"));
+    }
+
+    @Test
+    void indexMethodsPostgresOnline() throws Exception {
+        GoldenDdl.assertMatches("index_methods_postgres_online",
+                GoldenDdl.generate("index_methods_postgres", "dbType=POSTGRES", "auto=CREATE", "onlineDdl=true"));
+    }
+}
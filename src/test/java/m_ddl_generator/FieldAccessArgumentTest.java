@@ -0,0 +1,34 @@
+package m_ddl_generator;
+
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MParserUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 값으로 접을 수 없는 필드 참조 인자는 단순 이름으로 읽음: defaultValue(Status.ACTIVE) -> ACTIVE
+ */
+class FieldAccessArgumentTest {
+
+    @Test
+    void javacTreePathUsesSimpleName() throws Exception {
+        GoldenDdl.assertMatches("enum_default_mysql",
+                GoldenDdl.generate("enum_default", "dbType=MYSQL", "auto=CREATE"));
+    }
+
+    // javac 트리를 쓸 수 없는 환경(JavaParser)도 같은 값
+    @Test
+    void javaParserPathUsesSimpleName() throws Exception {
+        List<String> problems = new ArrayList<>();
+        List<MField> fields = MParserUtils.execute(
+                GoldenDdl.FIXTURES.resolve("enum_default/ent/Account.java").toString(), problems);
+
+        assertTrue(problems.isEmpty(), problems::toString);
+        assertEquals("ACTIVE", fields.get(1).getDefaultValue());
+    }
+}
@@ -0,0 +1,106 @@
+package m_ddl_generator;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 픽스처 엔티티를 MDDLProcessor로 컴파일해서 나온 ddl.xml의 DDL을 골든 파일과 비교합니다.
+ *
+ * - 픽스처: src/test/resources/fixtures/이름/ 아래의 엔티티 소스 (javac 트리 경로로 파싱됨)
+ * - 골든: src/test/resources/golden/이름.sql (ddl.xml CDATA 안의 DDL 그대로, 별도 실행 문장은 빈 줄로 구분)
+ * - 출력을 의도적으로 바꿨으면 -Djpm.updateGolden=true 로 한 번 실행해서 골든 파일을 다시 씀
+ */
+final class GoldenDdl {
+
+    static final Path FIXTURES = Paths.get("src", "test", "resources", "fixtures");
+    private static final Path GOLDEN = Paths.get("src", "test", "resources", "golden");
+
+    private GoldenDdl() {
+    }
+
+    /**
+     * 픽스처를 컴파일하고 생성된 DDL을 반환합니다. (DB 접속이 없는 정책만 사용)
+     * @param options 추가 프로세서 옵션 (예: "dbType=MYSQL", "auto=CREATE")
+     */
+    static String generate(String fixture, String... options) throws IOException {
+        Path work = Files.createTempDirectory("jpm-golden");
+        Path generated = Files.createDirectories(work.resolve("generated"));
+        Path classes = Files.createDirectories(work.resolve("classes"));
+
+        List<String> args = new ArrayList<>(Arrays.asList(
+                "-proc:only", "-processor", "MDDLProcessor",
+                "-classpath", System.getProperty("java.class.path"),
+                "-encoding", "UTF-8",
+                "-s", generated.toString(), "-d", classes.toString(),
+                "-AprojectDir=" + work,
+                "-Aurl=jdbc:test://localhost/jpm", "-Ausername=jpm", "-Apassword=jpm"));
+        for (String option : options) {
+            args.add("-A" + option);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            boolean success = compiler.getTask(null, files, diagnostics, args, null,
+                    files.getJavaFileObjectsFromFiles(sources(FIXTURES.resolve(fixture)))).call();
+            assertTrue(success, () -> fixture + " failed to compile:\n" + errors(diagnostics));
+        }
+
+        // 메인 문장 뒤에 트랜잭션 밖에서 실행할 문장(CREATE INDEX CONCURRENTLY 등)이 하나씩 따로 기록됨
+        String xml = new String(Files.readAllBytes(generated.resolve("ddl").resolve("ddl.xml")), StandardCharsets.UTF_8);
+        List<String> blocks = new ArrayList<>();
+        for (int start = xml.indexOf("<![CDATA["); start >= 0; start = xml.indexOf("<![CDATA[", start)) {
+            int end = xml.indexOf("]]>", start);
+            blocks.add(normalize(xml.substring(start + "<![CDATA[".length(), end)));
+            start = end;
+        }
+        return String.join("\n\n", blocks);
+    }
+
+    static void assertMatches(String golden, String actual) throws IOException {
+        Path file = GOLDEN.resolve(golden + ".sql");
+        if (Boolean.getBoolean("jpm.updateGolden")) {
+            Files.write(file, (actual + "\n").getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        assertTrue(Files.exists(file), () -> "missing golden file " + file + " (run with -Djpm.updateGolden=true)");
+        assertEquals(normalize(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)), actual, golden);
+    }
+
+    private static List<java.io.File> sources(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(p -> p.toString().endsWith(".java"))
+                    .sorted()
+                    .map(Path::toFile)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static String errors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(null))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String normalize(String ddl) {
+        return ddl.replace("\r\n", "\n").trim();
+    }
+}
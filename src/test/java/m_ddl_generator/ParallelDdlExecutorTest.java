@@ -0,0 +1,122 @@
+package m_ddl_generator;
+
+import config.AppConfig;
+import m_ddl_generator.generator.DdlScriptBuilder;
+import m_ddl_generator.model.ColumnMetadata;
+import m_ddl_generator.model.TableMetadata;
+import m_ddl_generator.plan.DdlPlan;
+import m_ddl_generator.plan.DdlStatement;
+import m_ddl_generator.plan.DdlStatement.Kind;
+import m_ddl_generator.plan.ParallelDdlExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ParallelDdlExecutor를 스텁 DataSource로 실행해 DAG 순서와 실패 보고서를 확인
+ * (선행 문장을 일부러 늦게 끝내서, 간선이 없으면 뒤 문장이 먼저 시작되도록 함)
+ */
+class ParallelDdlExecutorTest {
+
+    private static final long SLOW = 150;
+
+    // DROP: 자식 DROP과 순환 FK 제거가 끝난 뒤에 부모 DROP (team <- member, dept <-> emp)
+    @Test
+    void dropWaitsForReferencingChildren() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put("dbType", "MYSQL");
+        options.put("auto", "DROP_N_CREATE_EXE");
+        AppConfig.sqlDialectInit(options);
+
+        List<TableMetadata> tables = Arrays.asList(
+                table("team"),
+                table("member", fk("team", "team")),
+                table("dept", fk("manager", "emp")),
+                table("emp", fk("dept", "dept")));
+        DdlPlan plan = new DdlScriptBuilder(options).build(tables);
+
+        StubJdbc jdbc = new StubJdbc()
+                .delay("DROP TABLE IF EXISTS member", SLOW)
+                .delay("CALL DropFk_emp_dept()", SLOW);
+        new ParallelDdlExecutor(jdbc.dataSource(), 4).execute(plan);
+
+        assertTrue(jdbc.indexOf("start DROP TABLE IF EXISTS team") > jdbc.indexOf("end DROP TABLE IF EXISTS member"),
+                () -> jdbc.events().toString());
+        assertTrue(jdbc.indexOf("start DROP TABLE IF EXISTS dept") > jdbc.indexOf("end CALL DropFk_emp_dept()"),
+                () -> jdbc.events().toString());
+        assertTrue(jdbc.indexOf("start DROP TABLE IF EXISTS emp") > jdbc.indexOf("end DROP TABLE IF EXISTS dept"),
+                () -> jdbc.events().toString());
+    }
+
+    // CREATE: dependsOn 부모와 같은 테이블의 앞 문장을 기다리고, 관계없는 테이블은 기다리지 않음
+    @Test
+    void createFollowsParentsAndTableOrder() throws Exception {
+        DdlPlan plan = new DdlPlan()
+                .add(statement(Kind.CREATE_TABLE, "parent", "CREATE parent"))
+                .add(statement(Kind.CREATE_TABLE, "child", "CREATE child", "parent"))
+                .add(statement(Kind.CREATE_INDEX, "child", "INDEX child"))
+                .add(statement(Kind.CREATE_TABLE, "other", "CREATE other"));
+
+        StubJdbc jdbc = new StubJdbc()
+                .delay("CREATE parent", SLOW)
+                .delay("CREATE child", SLOW);
+        new ParallelDdlExecutor(jdbc.dataSource(), 4).execute(plan);
+
+        assertTrue(jdbc.indexOf("start CREATE child") > jdbc.indexOf("end CREATE parent"), () -> jdbc.events().toString());
+        assertTrue(jdbc.indexOf("start INDEX child") > jdbc.indexOf("end CREATE child"), () -> jdbc.events().toString());
+        assertTrue(jdbc.indexOf("end CREATE other") < jdbc.indexOf("end CREATE parent"), () -> jdbc.events().toString());
+    }
+
+    // 실패 보고서: 실패한 순서와 관계없이 계획 순서, 실패 문장에 의존하는 문장은 시작하지 않음
+    @Test
+    void failureReportIsInPlanOrder() {
+        DdlPlan plan = new DdlPlan()
+                .add(statement(Kind.CREATE_TABLE, "a", "CREATE a"))
+                .add(statement(Kind.CREATE_TABLE, "b", "CREATE b"))
+                .add(statement(Kind.CREATE_TABLE, "c", "CREATE c", "a"));
+
+        StubJdbc jdbc = new StubJdbc()
+                .delay("CREATE a", SLOW)
+                .fail("CREATE a")
+                .fail("CREATE b");
+        SQLException e = assertThrows(SQLException.class,
+                () -> new ParallelDdlExecutor(jdbc.dataSource(), 4).execute(plan));
+
+        // b가 먼저 실패해도 보고서와 SQLState는 계획 순서상 첫 실패(a) 기준
+        assertTrue(jdbc.indexOf("fail CREATE b") < jdbc.indexOf("fail CREATE a"), () -> jdbc.events().toString());
+        assertEquals("2 DDL statement(s) failed, 1 not started:"
+                + "\n  #1 [CREATE_TABLE a] failed: CREATE a"
+                + "\n  #2 [CREATE_TABLE b] failed: CREATE b", e.getMessage());
+        assertEquals("failed: CREATE a", e.getCause().getMessage());
+        assertEquals(1, e.getSuppressed().length);
+        assertFalse(jdbc.events().contains("start CREATE c"), () -> jdbc.events().toString());
+    }
+
+    private static TableMetadata table(String name, ColumnMetadata... fks) {
+        ColumnMetadata id = new ColumnMetadata.Builder("id", "BIGINT").primaryKey(true).nullable(false).build();
+        List<ColumnMetadata> columns = new ArrayList<>();
+        columns.add(id);
+        columns.addAll(Arrays.asList(fks));
+        return new TableMetadata(name, columns);
+    }
+
+    private static ColumnMetadata fk(String column, String parent) {
+        ColumnMetadata col = new ColumnMetadata.Builder(column, "BIGINT").build();
+        col.setForeignKey(parent, "id", "NO ACTION");
+        return col;
+    }
+
+    private static DdlStatement statement(Kind kind, String table, String sql, String... dependsOn) {
+        return new DdlStatement(kind, table, sql, Arrays.asList(dependsOn), false);
+    }
+}
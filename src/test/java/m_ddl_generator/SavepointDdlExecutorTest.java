@@ -0,0 +1,75 @@
+package m_ddl_generator;
+
+import m_ddl_generator.plan.DdlPlan;
+import m_ddl_generator.plan.DdlStatement;
+import m_ddl_generator.plan.DdlStatement.Kind;
+import m_ddl_generator.plan.SavepointDdlExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SavepointDdlExecutor를 스텁 커넥션으로 실행해 세이브포인트 롤백, 의존 단위 건너뛰기, 재시도를 확인
+ * (스텁은 커밋 전 문장을 보류해 두고 세이브포인트 롤백 시 되돌림)
+ */
+class SavepointDdlExecutorTest {
+
+    // 단위 중간에 실패하면 단위 전체를 되돌리고, 의존 단위와 그 테이블의 트랜잭션 밖 문장도 건너뜀
+    @Test
+    void failedUnitIsRolledBackAndDependentsSkipped() throws Exception {
+        DdlPlan plan = new DdlPlan()
+                .add(statement(Kind.ADD_COLUMN, "a", "ALTER a ADD x"))
+                .add(statement(Kind.ADD_COLUMN, "a", "ALTER a ADD y"))
+                .add(statement(Kind.ADD_FOREIGN_KEY, "b", "ALTER b ADD fk", "a"))
+                .add(statement(Kind.CREATE_TABLE, "c", "CREATE c"))
+                .add(new DdlStatement(Kind.CREATE_INDEX, "c", "INDEX c", Collections.emptySet(), true))
+                .add(new DdlStatement(Kind.CREATE_INDEX, "b", "INDEX b", Collections.emptySet(), true));
+
+        StubJdbc jdbc = new StubJdbc().fail("ALTER a ADD y");
+        List<SQLException> failures = new SavepointDdlExecutor().execute(jdbc.connection(), plan);
+
+        assertEquals(Arrays.asList(
+                "[ADD_COLUMN a] failed: ALTER a ADD y",
+                "[ADD_FOREIGN_KEY b] skipped: depends on failed table a",
+                "[CREATE_INDEX b] skipped: earlier statement of the table failed"), messages(failures));
+        // ALTER a ADD x는 실행됐지만 세이브포인트로 되돌려져 커밋되지 않음
+        assertTrue(jdbc.executed().contains("ALTER a ADD x"), () -> jdbc.events().toString());
+        assertEquals(Arrays.asList("CREATE c", "INDEX c"), jdbc.committed());
+        assertEquals(1, Collections.frequency(jdbc.events(), "commit"));
+    }
+
+    // 첫 시도에서 실패/건너뛴 단위는 나머지를 적용한 뒤 같은 트랜잭션에서 다시 시도
+    @Test
+    void retryAppliesUnitsSkippedInFirstPass() throws Exception {
+        DdlPlan plan = new DdlPlan()
+                .add(statement(Kind.CREATE_TABLE, "a", "CREATE a"))
+                .add(statement(Kind.CREATE_TABLE, "b", "CREATE b", "a"))
+                .add(statement(Kind.CREATE_TABLE, "c", "CREATE c"));
+
+        StubJdbc jdbc = new StubJdbc().failOnce("CREATE a");
+        List<SQLException> failures = new SavepointDdlExecutor().execute(jdbc.connection(), plan);
+
+        assertTrue(failures.isEmpty(), () -> messages(failures).toString());
+        assertEquals(Arrays.asList("CREATE c", "CREATE a", "CREATE b"), jdbc.committed());
+        assertEquals(1, Collections.frequency(jdbc.events(), "commit"));
+    }
+
+    private static List<String> messages(List<SQLException> failures) {
+        List<String> messages = new ArrayList<>();
+        for (SQLException failure : failures) {
+            messages.add(failure.getMessage());
+        }
+        return messages;
+    }
+
+    private static DdlStatement statement(Kind kind, String table, String sql, String... dependsOn) {
+        return new DdlStatement(kind, table, sql, Arrays.asList(dependsOn), false);
+    }
+}
@@ -0,0 +1,254 @@
+package m_ddl_generator;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DB 없이 DDL 실행기를 검증하는 JDBC 스텁 (java.lang.reflect.Proxy, 필요한 메서드만 흉내 냄)
+ *
+ * - 실행한 SQL을 "start <sql>" / "end <sql>" 이벤트로 기록 (여러 커넥션에서 동시에 기록해도 안전)
+ * - fail(sql): 해당 SQL은 SQLException, delay(sql, ms): 실행 중 잠시 멈춤 (동시 실행 순서 확인용)
+ * - executeBatch: 실패 시 드라이버별 BatchUpdateException 카운트를 흉내 냄 (BatchMode)
+ * - 트랜잭션: autocommit이 아니면 커밋 전까지 보류, 세이브포인트/롤백으로 보류분을 되돌림 (committed()로 확인)
+ */
+final class StubJdbc {
+
+    /**
+     * 배치 중 실패했을 때 드라이버 동작
+     * - STOP: 실패에서 멈추고 앞에서 성공한 문장 수만큼의 카운트 (PostgreSQL)
+     * - CONTINUE: 끝까지 실행하고 실패 위치는 EXECUTE_FAILED (MySQL continueBatchOnError=true)
+     * - NO_COUNTS: 카운트 없이 예외만
+     */
+    enum BatchMode { STOP, CONTINUE, NO_COUNTS }
+
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> committed = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> failing = ConcurrentHashMap.newKeySet();
+    private final Set<String> failingOnce = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> delays = new ConcurrentHashMap<>();
+    private BatchMode batchMode = BatchMode.STOP;
+
+    StubJdbc fail(String sql) {
+        failing.add(sql);
+        return this;
+    }
+
+    // 첫 실행만 실패 (재시도 확인용)
+    StubJdbc failOnce(String sql) {
+        failingOnce.add(sql);
+        return this;
+    }
+
+    StubJdbc delay(String sql, long millis) {
+        delays.put(sql, millis);
+        return this;
+    }
+
+    StubJdbc batchMode(BatchMode mode) {
+        this.batchMode = mode;
+        return this;
+    }
+
+    List<String> events() {
+        synchronized (events) {
+            return new ArrayList<>(events);
+        }
+    }
+
+    /**
+     * 끝까지 실행된(성공한) SQL, 끝난 순서
+     */
+    List<String> executed() {
+        List<String> result = new ArrayList<>();
+        for (String event : events()) {
+            if (event.startsWith("end ")) result.add(event.substring(4));
+        }
+        return result;
+    }
+
+    /**
+     * 커밋된(또는 autocommit으로 실행된) SQL, 적용된 순서
+     */
+    List<String> committed() {
+        synchronized (committed) {
+            return new ArrayList<>(committed);
+        }
+    }
+
+    int indexOf(String event) {
+        int index = events().indexOf(event);
+        if (index < 0) throw new AssertionError("no event '" + event + "' in " + events());
+        return index;
+    }
+
+    DataSource dataSource() {
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            if (method.getName().equals("getConnection")) return connection();
+            return defaultValue(proxy, method, args);
+        });
+    }
+
+    Connection connection() {
+        Transaction tx = new Transaction();
+        return proxy(Connection.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "createStatement":
+                    return statement(tx);
+                case "setAutoCommit":
+                    // JDBC와 같이 autocommit으로 바꾸면 보류분을 커밋
+                    if ((Boolean) args[0] && !tx.autoCommit) tx.commit();
+                    tx.autoCommit = (Boolean) args[0];
+                    return null;
+                case "getAutoCommit":
+                    return tx.autoCommit;
+                case "setSavepoint":
+                    events.add("savepoint");
+                    Savepoint savepoint = proxy(Savepoint.class, (p, m, a) -> defaultValue(p, m, a));
+                    tx.marks.put(savepoint, tx.pending.size());
+                    return savepoint;
+                case "releaseSavepoint":
+                    events.add("release savepoint");
+                    tx.marks.remove(args[0]);
+                    return null;
+                case "rollback":
+                    if (args == null) {
+                        events.add("rollback");
+                        tx.pending.clear();
+                    } else {
+                        events.add("rollback to savepoint");
+                        tx.pending.subList(tx.marks.get(args[0]), tx.pending.size()).clear();
+                    }
+                    return null;
+                case "commit":
+                    events.add("commit");
+                    tx.commit();
+                    return null;
+                default:
+                    return defaultValue(proxy, method, args);
+            }
+        });
+    }
+
+    // 커넥션 하나의 트랜잭션 상태
+    private final class Transaction {
+        boolean autoCommit = true;
+        final List<String> pending = new ArrayList<>();
+        final Map<Object, Integer> marks = new IdentityHashMap<>();
+
+        void applied(String sql) {
+            if (autoCommit) {
+                committed.add(sql);
+            } else {
+                pending.add(sql);
+            }
+        }
+
+        void commit() {
+            committed.addAll(pending);
+            pending.clear();
+        }
+    }
+
+    private Statement statement(Transaction tx) {
+        List<String> batch = new ArrayList<>();
+        return proxy(Statement.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "execute":
+                    run((String) args[0]);
+                    tx.applied((String) args[0]);
+                    return false;
+                case "addBatch":
+                    batch.add((String) args[0]);
+                    return null;
+                case "clearBatch":
+                    batch.clear();
+                    return null;
+                case "executeBatch":
+                    return runBatch(batch, tx);
+                default:
+                    return defaultValue(proxy, method, args);
+            }
+        });
+    }
+
+    private int[] runBatch(List<String> batch, Transaction tx) throws SQLException {
+        int[] counts = new int[batch.size()];
+        SQLException firstError = null;
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                run(batch.get(i));
+                tx.applied(batch.get(i));
+            } catch (SQLException e) {
+                if (batchMode == BatchMode.STOP) {
+                    throw batchError(e, Arrays.copyOf(counts, i));
+                }
+                counts[i] = Statement.EXECUTE_FAILED;
+                if (firstError == null) firstError = e;
+                if (batchMode == BatchMode.NO_COUNTS) break;
+            }
+        }
+        if (firstError != null) {
+            throw batchError(firstError, batchMode == BatchMode.NO_COUNTS ? null : counts);
+        }
+        return counts;
+    }
+
+    // 드라이버처럼 실제 원인은 next exception으로
+    private static BatchUpdateException batchError(SQLException cause, int[] counts) {
+        BatchUpdateException e = new BatchUpdateException("batch failed", cause.getSQLState(), cause.getErrorCode(), counts);
+        e.setNextException(cause);
+        return e;
+    }
+
+    private void run(String sql) throws SQLException {
+        events.add("start " + sql);
+        Long millis = delays.get(sql);
+        if (millis != null) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failing.contains(sql) || failingOnce.remove(sql)) {
+            events.add("fail " + sql);
+            throw new SQLException("failed: " + sql, "42000", 1000);
+        }
+        events.add("end " + sql);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StubJdbc.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    // 흉내 내지 않는 메서드는 아무것도 하지 않음 (Object 메서드는 프록시 자신 기준)
+    private static Object defaultValue(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals": return proxy == args[0];
+            case "hashCode": return System.identityHashCode(proxy);
+            case "toString": return "StubJdbc proxy";
+            default: break;
+        }
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        return null;
+    }
+}
@@ -0,0 +1,11 @@
+package ent;
+
+import annotation.MEntity;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+
+@MEntity(name = "account")
+public class Account {
+    private MField id = MField.builder().type(MFieldType.LONG).primaryKey(true).nullable(false).autoIncrement(true).build();
+    private MField status = MField.builder().type(MFieldType.STRING).length(20).defaultValue(Status.ACTIVE).build();
+}
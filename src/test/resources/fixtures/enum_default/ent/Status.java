@@ -0,0 +1,6 @@
+package ent;
+
+// 상태값 이름 모음 (final이 아니므로 컴파일 타임 상수가 아님)
+public class Status {
+    public static String ACTIVE = "ACTIVE";
+}
@@ -0,0 +1,13 @@
+package ent;
+
+import annotation.MEntity;
+import dsl_variable.v2.IndexMethod;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+
+@MEntity(name = "log")
+public class Log {
+    private MField id = MField.builder().type(MFieldType.LONG).primaryKey(true).nullable(false).autoIncrement(true).build();
+    private MField tags = MField.builder().type(MFieldType.JSON).index(true).indexMethod(IndexMethod.GIN).build();
+    private MField name = MField.builder().type(MFieldType.STRING).length(40).index(true).indexMethod(IndexMethod.BTREE).build();
+}
@@ -0,0 +1,15 @@
+package ent;
+
+import annotation.MEntity;
+import dsl_variable.v2.IndexMethod;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+
+@MEntity(name = "log")
+public class Log {
+    private MField id = MField.builder().type(MFieldType.LONG).primaryKey(true).nullable(false).autoIncrement(true).build();
+    private MField payload = MField.builder().type(MFieldType.JSON).indexMethod(IndexMethod.GIN).indexOpClass("jsonb_path_ops").build();
+    private MField at = MField.builder().type(MFieldType.LOCAL_DATE_TIME).indexMethod(IndexMethod.BRIN).build();
+    private MField code = MField.builder().type(MFieldType.STRING).length(16).indexMethod(IndexMethod.HASH).build();
+    private MField name = MField.builder().type(MFieldType.STRING).length(40).index(true).indexMethod(IndexMethod.BTREE).build();
+}
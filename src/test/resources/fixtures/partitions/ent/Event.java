@@ -0,0 +1,18 @@
+package ent;
+
+import annotation.MEntity;
+import annotation.MPartition;
+import annotation.MPartitionBound;
+import annotation.PartitionType;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+
+@MEntity(name = "event", partition = @MPartition(type = PartitionType.RANGE, column = "at", partitions = {
+        @MPartitionBound(name = "p2024", values = "'2025-01-01'"),
+        @MPartitionBound(name = "pmax", values = "MAXVALUE")
+}))
+public class Event {
+    private MField id = MField.builder().type(MFieldType.LONG).primaryKey(true).nullable(false).build();
+    private MField at = MField.builder().type(MFieldType.LOCAL_DATE_TIME).primaryKey(true).nullable(false).build();
+    private MField kind = MField.builder().type(MFieldType.STRING).length(20).index(true).build();
+}
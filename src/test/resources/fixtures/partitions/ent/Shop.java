@@ -0,0 +1,17 @@
+package ent;
+
+import annotation.MEntity;
+import annotation.MPartition;
+import annotation.MPartitionBound;
+import annotation.PartitionType;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+
+@MEntity(name = "shop", partition = @MPartition(type = PartitionType.LIST, column = "region", partitions = {
+        @MPartitionBound(name = "p_asia", values = {"'kr'", "'jp'"}),
+        @MPartitionBound(name = "p_eu", values = {"'de'", "'fr'"})
+}))
+public class Shop {
+    private MField id = MField.builder().type(MFieldType.LONG).primaryKey(true).nullable(false).build();
+    private MField region = MField.builder().type(MFieldType.STRING).length(8).primaryKey(true).nullable(false).build();
+}
@@ -0,0 +1,13 @@
+package ent;
+
+import annotation.MEntity;
+import annotation.MPartition;
+import annotation.PartitionType;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+
+@MEntity(name = "visit", partition = @MPartition(type = PartitionType.HASH, column = "id", count = 3))
+public class Visit {
+    private MField id = MField.builder().type(MFieldType.LONG).primaryKey(true).nullable(false).build();
+    private MField path = MField.builder().type(MFieldType.STRING).length(200).build();
+}
@@ -0,0 +1,12 @@
+package ent;
+
+import annotation.MEntity;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+
+// Dept <-> Emp 순환 참조: 한쪽 제약조건은 두 테이블을 만든 뒤 ALTER로 추가됨
+@MEntity(name = "dept")
+public class Dept {
+    private MField id = MField.builder().type(MFieldType.LONG).primaryKey(true).nullable(false).build();
+    private MField manager = MField.builder().type(MFieldType.FK).parent(Emp.class).build();
+}
@@ -0,0 +1,12 @@
+package ent;
+
+import annotation.MEntity;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+
+// UUID PK: 참조하는 FK 컬럼도 같은 타입이어야 함
+@MEntity(name = "doc")
+public class Doc {
+    private MField uid = MField.builder().type(MFieldType.UUID_V_7).primaryKey(true).nullable(false).build();
+    private MField title = MField.builder().type(MFieldType.STRING).length(80).build();
+}
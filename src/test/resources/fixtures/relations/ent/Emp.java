@@ -0,0 +1,11 @@
+package ent;
+
+import annotation.MEntity;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+
+@MEntity(name = "emp")
+public class Emp {
+    private MField id = MField.builder().type(MFieldType.LONG).primaryKey(true).nullable(false).build();
+    private MField dept = MField.builder().type(MFieldType.FK).parent(Dept.class).build();
+}
@@ -0,0 +1,17 @@
+package ent;
+
+import annotation.MEntity;
+import annotation.MIndex;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+import dsl_variable.v2.OnDeleteType;
+
+@MEntity(name = "member", indexes = {
+        @MIndex(columns = {"team", "joined_at DESC"}, include = {"email"})
+})
+public class Member {
+    private MField id = MField.builder().type(MFieldType.LONG).primaryKey(true).nullable(false).autoIncrement(true).build();
+    private MField email = MField.builder().type(MFieldType.STRING).length(120).unique(true).build();
+    private MField team = MField.builder().type(MFieldType.FK).parent(Team.class).onDelete(OnDeleteType.CASCADE).build();
+    private MField joinedAt = MField.builder().type(MFieldType.LOCAL_DATE_TIME).name("joined_at").build();
+}
@@ -0,0 +1,11 @@
+package ent;
+
+import annotation.MEntity;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+
+@MEntity(name = "rev")
+public class Rev {
+    private MField id = MField.builder().type(MFieldType.LONG).primaryKey(true).nullable(false).autoIncrement(true).build();
+    private MField doc = MField.builder().type(MFieldType.FK).parent(Doc.class).build();
+}
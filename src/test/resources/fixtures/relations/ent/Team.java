@@ -0,0 +1,11 @@
+package ent;
+
+import annotation.MEntity;
+import dsl_variable.v2.MField;
+import dsl_variable.v2.MFieldType;
+
+@MEntity(name = "team")
+public class Team {
+    private MField id = MField.builder().type(MFieldType.LONG).primaryKey(true).nullable(false).autoIncrement(true).build();
+    private MField name = MField.builder().type(MFieldType.STRING).length(40).nullable(false).unique(true).build();
+}
@@ -0,0 +1,28 @@
+/* --- 1. TABLES --- */
+	CREATE TABLE IF NOT EXISTS account (
+	id BIGINT NOT NULL AUTO_INCREMENT,
+	status VARCHAR(20) DEFAULT ACTIVE,
+	PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+	/* --- 2. COLUMNS --- */
+	DROP PROCEDURE IF EXISTS AddCols_account;
+	CREATE PROCEDURE AddCols_account() BEGIN
+	DECLARE existing TEXT;
+	DECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;
+	SET SESSION group_concat_max_len = 1048576;
+	SELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'account';
+	SET SESSION group_concat_max_len = prev_len;
+	SET @jpm_ddl = NULL;
+	IF FIND_IN_SET('id', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN id BIGINT NOT NULL AUTO_INCREMENT'); END IF;
+	IF FIND_IN_SET('status', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN status VARCHAR(20) DEFAULT ACTIVE'); END IF;
+	IF @jpm_ddl IS NOT NULL THEN
+		SET @jpm_ddl = CONCAT('ALTER TABLE account ', @jpm_ddl);
+		PREPARE jpm_stmt FROM @jpm_ddl;
+		EXECUTE jpm_stmt;
+		DEALLOCATE PREPARE jpm_stmt;
+	END IF;
+END;
+	CALL AddCols_account();
+	DROP PROCEDURE AddCols_account;
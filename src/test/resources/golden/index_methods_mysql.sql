@@ -0,0 +1,34 @@
+/* --- 1. TABLES --- */
+	CREATE TABLE IF NOT EXISTS log (
+	id BIGINT NOT NULL AUTO_INCREMENT,
+	tags JSON,
+	name VARCHAR(40),
+	PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+	/* --- 2. COLUMNS --- */
+	DROP PROCEDURE IF EXISTS AddCols_log;
+	CREATE PROCEDURE AddCols_log() BEGIN
+	DECLARE existing TEXT;
+	DECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;
+	SET SESSION group_concat_max_len = 1048576;
+	SELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'log';
+	SET SESSION group_concat_max_len = prev_len;
+	SET @jpm_ddl = NULL;
+	IF FIND_IN_SET('id', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN id BIGINT NOT NULL AUTO_INCREMENT'); END IF;
+	IF FIND_IN_SET('tags', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN tags JSON'); END IF;
+	IF FIND_IN_SET('name', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN name VARCHAR(40)'); END IF;
+	IF @jpm_ddl IS NOT NULL THEN
+		SET @jpm_ddl = CONCAT('ALTER TABLE log ', @jpm_ddl);
+		PREPARE jpm_stmt FROM @jpm_ddl;
+		EXECUTE jpm_stmt;
+		DEALLOCATE PREPARE jpm_stmt;
+	END IF;
+END;
+	CALL AddCols_log();
+	DROP PROCEDURE AddCols_log;
+
+	/* --- 4. INDEXES --- */
+	CREATE INDEX IF NOT EXISTS idx_log_tags ON log ((CAST(tags->'$' AS CHAR(255) ARRAY)));
+	CREATE INDEX IF NOT EXISTS idx_log_name ON log (name) USING BTREE;
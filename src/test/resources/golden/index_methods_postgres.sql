@@ -0,0 +1,22 @@
+/* --- 1. TABLES --- */
+	CREATE TABLE IF NOT EXISTS log (
+	id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+	payload JSONB,
+	at TIMESTAMP,
+	code VARCHAR(16),
+	name VARCHAR(40),
+	PRIMARY KEY (id)
+);
+
+	/* --- 2. COLUMNS --- */
+	ALTER TABLE log ADD COLUMN IF NOT EXISTS id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY;
+	ALTER TABLE log ADD COLUMN IF NOT EXISTS payload JSONB;
+	ALTER TABLE log ADD COLUMN IF NOT EXISTS at TIMESTAMP;
+	ALTER TABLE log ADD COLUMN IF NOT EXISTS code VARCHAR(16);
+	ALTER TABLE log ADD COLUMN IF NOT EXISTS name VARCHAR(40);
+
+	/* --- 4. INDEXES --- */
+	CREATE INDEX IF NOT EXISTS idx_log_payload ON log USING gin (payload jsonb_path_ops);
+	CREATE INDEX IF NOT EXISTS idx_log_at ON log USING brin (at);
+	CREATE INDEX IF NOT EXISTS idx_log_code ON log USING hash (code);
+	CREATE INDEX IF NOT EXISTS idx_log_name ON log USING btree (name);
@@ -0,0 +1,92 @@
+/* --- 1. TABLES --- */
+	CREATE TABLE IF NOT EXISTS shop (
+	id BIGINT NOT NULL,
+	region VARCHAR(8) NOT NULL,
+	PRIMARY KEY (id, region)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+PARTITION BY LIST COLUMNS(region) (
+	PARTITION p_asia VALUES IN ('kr', 'jp'),
+	PARTITION p_eu VALUES IN ('de', 'fr')
+);
+	CREATE TABLE IF NOT EXISTS visit (
+	id BIGINT NOT NULL,
+	path VARCHAR(200),
+	PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+PARTITION BY KEY(id) PARTITIONS 3;
+	CREATE TABLE IF NOT EXISTS event (
+	id BIGINT NOT NULL,
+	at TIMESTAMP NOT NULL,
+	kind VARCHAR(20),
+	PRIMARY KEY (id, at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+PARTITION BY RANGE COLUMNS(at) (
+	PARTITION p2024 VALUES LESS THAN ('2025-01-01'),
+	PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+	/* --- 2. COLUMNS --- */
+	DROP PROCEDURE IF EXISTS AddCols_shop;
+	CREATE PROCEDURE AddCols_shop() BEGIN
+	DECLARE existing TEXT;
+	DECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;
+	SET SESSION group_concat_max_len = 1048576;
+	SELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'shop';
+	SET SESSION group_concat_max_len = prev_len;
+	SET @jpm_ddl = NULL;
+	IF FIND_IN_SET('id', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN id BIGINT NOT NULL'); END IF;
+	IF FIND_IN_SET('region', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN region VARCHAR(8) NOT NULL'); END IF;
+	IF @jpm_ddl IS NOT NULL THEN
+		SET @jpm_ddl = CONCAT('ALTER TABLE shop ', @jpm_ddl);
+		PREPARE jpm_stmt FROM @jpm_ddl;
+		EXECUTE jpm_stmt;
+		DEALLOCATE PREPARE jpm_stmt;
+	END IF;
+END;
+	CALL AddCols_shop();
+	DROP PROCEDURE AddCols_shop;
+	DROP PROCEDURE IF EXISTS AddCols_visit;
+	CREATE PROCEDURE AddCols_visit() BEGIN
+	DECLARE existing TEXT;
+	DECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;
+	SET SESSION group_concat_max_len = 1048576;
+	SELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'visit';
+	SET SESSION group_concat_max_len = prev_len;
+	SET @jpm_ddl = NULL;
+	IF FIND_IN_SET('id', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN id BIGINT NOT NULL'); END IF;
+	IF FIND_IN_SET('path', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN path VARCHAR(200)'); END IF;
+	IF @jpm_ddl IS NOT NULL THEN
+		SET @jpm_ddl = CONCAT('ALTER TABLE visit ', @jpm_ddl);
+		PREPARE jpm_stmt FROM @jpm_ddl;
+		EXECUTE jpm_stmt;
+		DEALLOCATE PREPARE jpm_stmt;
+	END IF;
+END;
+	CALL AddCols_visit();
+	DROP PROCEDURE AddCols_visit;
+	DROP PROCEDURE IF EXISTS AddCols_event;
+	CREATE PROCEDURE AddCols_event() BEGIN
+	DECLARE existing TEXT;
+	DECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;
+	SET SESSION group_concat_max_len = 1048576;
+	SELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'event';
+	SET SESSION group_concat_max_len = prev_len;
+	SET @jpm_ddl = NULL;
+	IF FIND_IN_SET('id', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN id BIGINT NOT NULL'); END IF;
+	IF FIND_IN_SET('at', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN at TIMESTAMP NOT NULL'); END IF;
+	IF FIND_IN_SET('kind', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN kind VARCHAR(20)'); END IF;
+	IF @jpm_ddl IS NOT NULL THEN
+		SET @jpm_ddl = CONCAT('ALTER TABLE event ', @jpm_ddl);
+		PREPARE jpm_stmt FROM @jpm_ddl;
+		EXECUTE jpm_stmt;
+		DEALLOCATE PREPARE jpm_stmt;
+	END IF;
+END;
+	CALL AddCols_event();
+	DROP PROCEDURE AddCols_event;
+
+	/* --- 4. INDEXES --- */
+	CREATE INDEX IF NOT EXISTS idx_event_kind ON event (kind);
@@ -0,0 +1,36 @@
+/* --- 1. TABLES --- */
+	CREATE TABLE IF NOT EXISTS shop (
+	id BIGINT NOT NULL,
+	region VARCHAR(8) NOT NULL,
+	PRIMARY KEY (id, region)
+) PARTITION BY LIST (region);
+	CREATE TABLE IF NOT EXISTS shop_p_asia PARTITION OF shop FOR VALUES IN ('kr', 'jp');
+	CREATE TABLE IF NOT EXISTS shop_p_eu PARTITION OF shop FOR VALUES IN ('de', 'fr');
+	CREATE TABLE IF NOT EXISTS visit (
+	id BIGINT NOT NULL,
+	path VARCHAR(200),
+	PRIMARY KEY (id)
+) PARTITION BY HASH (id);
+	CREATE TABLE IF NOT EXISTS visit_p0 PARTITION OF visit FOR VALUES WITH (MODULUS 3, REMAINDER 0);
+	CREATE TABLE IF NOT EXISTS visit_p1 PARTITION OF visit FOR VALUES WITH (MODULUS 3, REMAINDER 1);
+	CREATE TABLE IF NOT EXISTS visit_p2 PARTITION OF visit FOR VALUES WITH (MODULUS 3, REMAINDER 2);
+	CREATE TABLE IF NOT EXISTS event (
+	id BIGINT NOT NULL,
+	at TIMESTAMP NOT NULL,
+	kind VARCHAR(20),
+	PRIMARY KEY (id, at)
+) PARTITION BY RANGE (at);
+	CREATE TABLE IF NOT EXISTS event_p2024 PARTITION OF event FOR VALUES FROM (MINVALUE) TO ('2025-01-01');
+	CREATE TABLE IF NOT EXISTS event_pmax PARTITION OF event FOR VALUES FROM ('2025-01-01') TO (MAXVALUE);
+
+	/* --- 2. COLUMNS --- */
+	ALTER TABLE shop ADD COLUMN IF NOT EXISTS id BIGINT NOT NULL;
+	ALTER TABLE shop ADD COLUMN IF NOT EXISTS region VARCHAR(8) NOT NULL;
+	ALTER TABLE visit ADD COLUMN IF NOT EXISTS id BIGINT NOT NULL;
+	ALTER TABLE visit ADD COLUMN IF NOT EXISTS path VARCHAR(200);
+	ALTER TABLE event ADD COLUMN IF NOT EXISTS id BIGINT NOT NULL;
+	ALTER TABLE event ADD COLUMN IF NOT EXISTS at TIMESTAMP NOT NULL;
+	ALTER TABLE event ADD COLUMN IF NOT EXISTS kind VARCHAR(20);
+
+	/* --- 4. INDEXES --- */
+	CREATE INDEX IF NOT EXISTS idx_event_kind ON event (kind);
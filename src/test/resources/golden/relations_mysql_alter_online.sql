@@ -0,0 +1,223 @@
+/* --- 1. TABLES --- */
+	CREATE TABLE IF NOT EXISTS doc (
+	uid CHAR(36) NOT NULL CONSTRAINT uid_v7_chk CHECK (SUBSTRING(uid, 15, 1) = '7'),
+	title VARCHAR(80),
+	PRIMARY KEY (uid)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+	CREATE TABLE IF NOT EXISTS rev (
+	id BIGINT NOT NULL AUTO_INCREMENT,
+	doc CHAR(36),
+	PRIMARY KEY (id),
+	CONSTRAINT fk_rev_doc FOREIGN KEY (doc) REFERENCES doc (uid) ON DELETE NO ACTION
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+	CREATE TABLE IF NOT EXISTS emp (
+	id BIGINT NOT NULL,
+	dept BIGINT,
+	PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+	CREATE TABLE IF NOT EXISTS dept (
+	id BIGINT NOT NULL,
+	manager BIGINT,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_dept_manager FOREIGN KEY (manager) REFERENCES emp (id) ON DELETE NO ACTION
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+	CREATE TABLE IF NOT EXISTS team (
+	id BIGINT NOT NULL AUTO_INCREMENT,
+	name VARCHAR(40) NOT NULL,
+	PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+	CREATE TABLE IF NOT EXISTS member (
+	id BIGINT NOT NULL AUTO_INCREMENT,
+	email VARCHAR(120),
+	team BIGINT,
+	joined_at TIMESTAMP,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_member_team FOREIGN KEY (team) REFERENCES team (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+	/* --- 2. COLUMNS --- */
+	DROP PROCEDURE IF EXISTS AddCols_rev;
+	CREATE PROCEDURE AddCols_rev() BEGIN
+	DECLARE existing TEXT;
+	DECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;
+	SET SESSION group_concat_max_len = 1048576;
+	SELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'rev';
+	SET SESSION group_concat_max_len = prev_len;
+	SET @jpm_ddl = NULL;
+	IF FIND_IN_SET('id', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN id BIGINT NOT NULL AUTO_INCREMENT'); END IF;
+	IF FIND_IN_SET('doc', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN doc CHAR(36)'); END IF;
+	IF @jpm_ddl IS NOT NULL THEN
+		SET @jpm_ddl = CONCAT('ALTER TABLE rev ', @jpm_ddl, ', ALGORITHM=INSTANT');
+		PREPARE jpm_stmt FROM @jpm_ddl;
+		EXECUTE jpm_stmt;
+		DEALLOCATE PREPARE jpm_stmt;
+	END IF;
+END;
+	CALL AddCols_rev();
+	DROP PROCEDURE AddCols_rev;
+	DROP PROCEDURE IF EXISTS AddCols_dept;
+	CREATE PROCEDURE AddCols_dept() BEGIN
+	DECLARE existing TEXT;
+	DECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;
+	SET SESSION group_concat_max_len = 1048576;
+	SELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'dept';
+	SET SESSION group_concat_max_len = prev_len;
+	SET @jpm_ddl = NULL;
+	IF FIND_IN_SET('id', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN id BIGINT NOT NULL'); END IF;
+	IF FIND_IN_SET('manager', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN manager BIGINT'); END IF;
+	IF @jpm_ddl IS NOT NULL THEN
+		SET @jpm_ddl = CONCAT('ALTER TABLE dept ', @jpm_ddl, ', ALGORITHM=INSTANT');
+		PREPARE jpm_stmt FROM @jpm_ddl;
+		EXECUTE jpm_stmt;
+		DEALLOCATE PREPARE jpm_stmt;
+	END IF;
+END;
+	CALL AddCols_dept();
+	DROP PROCEDURE AddCols_dept;
+	DROP PROCEDURE IF EXISTS AddCols_doc;
+	CREATE PROCEDURE AddCols_doc() BEGIN
+	DECLARE existing TEXT;
+	DECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;
+	SET SESSION group_concat_max_len = 1048576;
+	SELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'doc';
+	SET SESSION group_concat_max_len = prev_len;
+	SET @jpm_ddl = NULL;
+	IF FIND_IN_SET('uid', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN uid CHAR(36) NOT NULL CONSTRAINT uid_v7_chk CHECK (SUBSTRING(uid, 15, 1) = ''7'')'); END IF;
+	IF FIND_IN_SET('title', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN title VARCHAR(80)'); END IF;
+	IF @jpm_ddl IS NOT NULL THEN
+		SET @jpm_ddl = CONCAT('ALTER TABLE doc ', @jpm_ddl, ', ALGORITHM=INSTANT');
+		PREPARE jpm_stmt FROM @jpm_ddl;
+		EXECUTE jpm_stmt;
+		DEALLOCATE PREPARE jpm_stmt;
+	END IF;
+END;
+	CALL AddCols_doc();
+	DROP PROCEDURE AddCols_doc;
+	DROP PROCEDURE IF EXISTS AddCols_emp;
+	CREATE PROCEDURE AddCols_emp() BEGIN
+	DECLARE existing TEXT;
+	DECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;
+	SET SESSION group_concat_max_len = 1048576;
+	SELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'emp';
+	SET SESSION group_concat_max_len = prev_len;
+	SET @jpm_ddl = NULL;
+	IF FIND_IN_SET('id', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN id BIGINT NOT NULL'); END IF;
+	IF FIND_IN_SET('dept', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN dept BIGINT'); END IF;
+	IF @jpm_ddl IS NOT NULL THEN
+		SET @jpm_ddl = CONCAT('ALTER TABLE emp ', @jpm_ddl, ', ALGORITHM=INSTANT');
+		PREPARE jpm_stmt FROM @jpm_ddl;
+		EXECUTE jpm_stmt;
+		DEALLOCATE PREPARE jpm_stmt;
+	END IF;
+END;
+	CALL AddCols_emp();
+	DROP PROCEDURE AddCols_emp;
+	DROP PROCEDURE IF EXISTS AddCols_team;
+	CREATE PROCEDURE AddCols_team() BEGIN
+	DECLARE existing TEXT;
+	DECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;
+	SET SESSION group_concat_max_len = 1048576;
+	SELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'team';
+	SET SESSION group_concat_max_len = prev_len;
+	SET @jpm_ddl = NULL;
+	IF FIND_IN_SET('id', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN id BIGINT NOT NULL AUTO_INCREMENT'); END IF;
+	IF FIND_IN_SET('name', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN name VARCHAR(40) NOT NULL'); END IF;
+	IF @jpm_ddl IS NOT NULL THEN
+		SET @jpm_ddl = CONCAT('ALTER TABLE team ', @jpm_ddl, ', ALGORITHM=INSTANT');
+		PREPARE jpm_stmt FROM @jpm_ddl;
+		EXECUTE jpm_stmt;
+		DEALLOCATE PREPARE jpm_stmt;
+	END IF;
+END;
+	CALL AddCols_team();
+	DROP PROCEDURE AddCols_team;
+	DROP PROCEDURE IF EXISTS AddCols_member;
+	CREATE PROCEDURE AddCols_member() BEGIN
+	DECLARE existing TEXT;
+	DECLARE prev_len BIGINT UNSIGNED DEFAULT @@SESSION.group_concat_max_len;
+	SET SESSION group_concat_max_len = 1048576;
+	SELECT IFNULL(GROUP_CONCAT(COLUMN_NAME), '') INTO existing FROM information_schema.COLUMNS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'member';
+	SET SESSION group_concat_max_len = prev_len;
+	SET @jpm_ddl = NULL;
+	IF FIND_IN_SET('id', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN id BIGINT NOT NULL AUTO_INCREMENT'); END IF;
+	IF FIND_IN_SET('email', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN email VARCHAR(120)'); END IF;
+	IF FIND_IN_SET('team', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN team BIGINT'); END IF;
+	IF FIND_IN_SET('joined_at', existing) = 0 THEN SET @jpm_ddl = CONCAT_WS(', ', @jpm_ddl, 'ADD COLUMN joined_at TIMESTAMP'); END IF;
+	IF @jpm_ddl IS NOT NULL THEN
+		SET @jpm_ddl = CONCAT('ALTER TABLE member ', @jpm_ddl, ', ALGORITHM=INSTANT');
+		PREPARE jpm_stmt FROM @jpm_ddl;
+		EXECUTE jpm_stmt;
+		DEALLOCATE PREPARE jpm_stmt;
+	END IF;
+END;
+	CALL AddCols_member();
+	DROP PROCEDURE AddCols_member;
+
+	/* --- 3. FOREIGN KEYS --- */
+	DROP PROCEDURE IF EXISTS AddFk_rev_doc;
+	CREATE PROCEDURE AddFk_rev_doc() BEGIN
+	IF NOT EXISTS (
+		SELECT * FROM information_schema.TABLE_CONSTRAINTS
+		WHERE TABLE_SCHEMA = DATABASE()
+		AND TABLE_NAME = 'rev'
+		AND CONSTRAINT_NAME = 'fk_rev_doc'
+		AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+	) THEN
+		ALTER TABLE rev ADD CONSTRAINT fk_rev_doc FOREIGN KEY (doc) REFERENCES doc (uid) ON DELETE NO ACTION;
+	END IF;
+END;
+	CALL AddFk_rev_doc();
+	DROP PROCEDURE AddFk_rev_doc;
+	DROP PROCEDURE IF EXISTS AddFk_emp_dept;
+	CREATE PROCEDURE AddFk_emp_dept() BEGIN
+	IF NOT EXISTS (
+		SELECT * FROM information_schema.TABLE_CONSTRAINTS
+		WHERE TABLE_SCHEMA = DATABASE()
+		AND TABLE_NAME = 'emp'
+		AND CONSTRAINT_NAME = 'fk_emp_dept'
+		AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+	) THEN
+		ALTER TABLE emp ADD CONSTRAINT fk_emp_dept FOREIGN KEY (dept) REFERENCES dept (id) ON DELETE NO ACTION;
+	END IF;
+END;
+	CALL AddFk_emp_dept();
+	DROP PROCEDURE AddFk_emp_dept;
+	DROP PROCEDURE IF EXISTS AddFk_dept_manager;
+	CREATE PROCEDURE AddFk_dept_manager() BEGIN
+	IF NOT EXISTS (
+		SELECT * FROM information_schema.TABLE_CONSTRAINTS
+		WHERE TABLE_SCHEMA = DATABASE()
+		AND TABLE_NAME = 'dept'
+		AND CONSTRAINT_NAME = 'fk_dept_manager'
+		AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+	) THEN
+		ALTER TABLE dept ADD CONSTRAINT fk_dept_manager FOREIGN KEY (manager) REFERENCES emp (id) ON DELETE NO ACTION;
+	END IF;
+END;
+	CALL AddFk_dept_manager();
+	DROP PROCEDURE AddFk_dept_manager;
+	DROP PROCEDURE IF EXISTS AddFk_member_team;
+	CREATE PROCEDURE AddFk_member_team() BEGIN
+	IF NOT EXISTS (
+		SELECT * FROM information_schema.TABLE_CONSTRAINTS
+		WHERE TABLE_SCHEMA = DATABASE()
+		AND TABLE_NAME = 'member'
+		AND CONSTRAINT_NAME = 'fk_member_team'
+		AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+	) THEN
+		ALTER TABLE member ADD CONSTRAINT fk_member_team FOREIGN KEY (team) REFERENCES team (id) ON DELETE CASCADE;
+	END IF;
+END;
+	CALL AddFk_member_team();
+	DROP PROCEDURE AddFk_member_team;
+
+	/* --- 4. INDEXES --- */
+	CREATE UNIQUE INDEX IF NOT EXISTS idx_team_name ON team (name) ALGORITHM=INPLACE LOCK=NONE;
+	CREATE UNIQUE INDEX IF NOT EXISTS idx_member_email ON member (email) ALGORITHM=INPLACE LOCK=NONE;
+	CREATE INDEX IF NOT EXISTS idx_member_team_joined_at ON member (team, joined_at DESC, email) ALGORITHM=INPLACE LOCK=NONE;
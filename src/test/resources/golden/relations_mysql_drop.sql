@@ -0,0 +1,64 @@
+/* --- 1. TABLES --- */
+	DROP PROCEDURE IF EXISTS DropFk_emp_dept;
+	CREATE PROCEDURE DropFk_emp_dept() BEGIN
+	IF EXISTS (
+		SELECT * FROM information_schema.TABLE_CONSTRAINTS
+		WHERE TABLE_SCHEMA = DATABASE()
+		AND TABLE_NAME = 'emp'
+		AND CONSTRAINT_NAME = 'fk_emp_dept'
+		AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+	) THEN
+		ALTER TABLE emp DROP FOREIGN KEY fk_emp_dept;
+	END IF;
+END;
+	CALL DropFk_emp_dept();
+	DROP PROCEDURE DropFk_emp_dept;
+	DROP TABLE IF EXISTS member;
+	DROP TABLE IF EXISTS team;
+	DROP TABLE IF EXISTS dept;
+	DROP TABLE IF EXISTS emp;
+	DROP TABLE IF EXISTS rev;
+	DROP TABLE IF EXISTS doc;
+	CREATE TABLE IF NOT EXISTS doc (
+	uid CHAR(36) NOT NULL CONSTRAINT uid_v7_chk CHECK (SUBSTRING(uid, 15, 1) = '7'),
+	title VARCHAR(80),
+	PRIMARY KEY (uid)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+	CREATE TABLE IF NOT EXISTS rev (
+	id BIGINT NOT NULL AUTO_INCREMENT,
+	doc CHAR(36),
+	PRIMARY KEY (id),
+	CONSTRAINT fk_rev_doc FOREIGN KEY (doc) REFERENCES doc (uid) ON DELETE NO ACTION
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+	CREATE TABLE IF NOT EXISTS emp (
+	id BIGINT NOT NULL,
+	dept BIGINT,
+	PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+	CREATE TABLE IF NOT EXISTS dept (
+	id BIGINT NOT NULL,
+	manager BIGINT,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_dept_manager FOREIGN KEY (manager) REFERENCES emp (id) ON DELETE NO ACTION
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+	CREATE TABLE IF NOT EXISTS team (
+	id BIGINT NOT NULL AUTO_INCREMENT,
+	name VARCHAR(40) NOT NULL,
+	PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+	CREATE TABLE IF NOT EXISTS member (
+	id BIGINT NOT NULL AUTO_INCREMENT,
+	email VARCHAR(120),
+	team BIGINT,
+	joined_at TIMESTAMP,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_member_team FOREIGN KEY (team) REFERENCES team (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+	/* --- 3. FOREIGN KEYS --- */
+	ALTER TABLE emp ADD CONSTRAINT fk_emp_dept FOREIGN KEY (dept) REFERENCES dept (id) ON DELETE NO ACTION;
+
+	/* --- 4. INDEXES --- */
+	CREATE UNIQUE INDEX IF NOT EXISTS idx_team_name ON team (name);
+	CREATE UNIQUE INDEX IF NOT EXISTS idx_member_email ON member (email);
+	CREATE INDEX IF NOT EXISTS idx_member_team_joined_at ON member (team, joined_at DESC, email);
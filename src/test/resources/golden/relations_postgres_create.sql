@@ -0,0 +1,79 @@
+/* --- 1. TABLES --- */
+	CREATE TABLE IF NOT EXISTS doc (
+	uid UUID NOT NULL CONSTRAINT uid_v7_chk CHECK (substring(uid::text, 15, 1) = '7'),
+	title VARCHAR(80),
+	PRIMARY KEY (uid)
+);
+	CREATE TABLE IF NOT EXISTS rev (
+	id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+	doc UUID,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_rev_doc FOREIGN KEY (doc) REFERENCES doc (uid) ON DELETE NO ACTION
+);
+	CREATE TABLE IF NOT EXISTS emp (
+	id BIGINT NOT NULL,
+	dept BIGINT,
+	PRIMARY KEY (id)
+);
+	CREATE TABLE IF NOT EXISTS dept (
+	id BIGINT NOT NULL,
+	manager BIGINT,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_dept_manager FOREIGN KEY (manager) REFERENCES emp (id) ON DELETE NO ACTION
+);
+	CREATE TABLE IF NOT EXISTS team (
+	id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+	name VARCHAR(40) NOT NULL,
+	PRIMARY KEY (id)
+);
+	CREATE TABLE IF NOT EXISTS member (
+	id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+	email VARCHAR(120),
+	team BIGINT,
+	joined_at TIMESTAMP,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_member_team FOREIGN KEY (team) REFERENCES team (id) ON DELETE CASCADE
+);
+
+	/* --- 2. COLUMNS --- */
+	ALTER TABLE rev ADD COLUMN IF NOT EXISTS id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY;
+	ALTER TABLE rev ADD COLUMN IF NOT EXISTS doc UUID;
+	ALTER TABLE dept ADD COLUMN IF NOT EXISTS id BIGINT NOT NULL;
+	ALTER TABLE dept ADD COLUMN IF NOT EXISTS manager BIGINT;
+	ALTER TABLE doc ADD COLUMN IF NOT EXISTS uid UUID NOT NULL CONSTRAINT uid_v7_chk CHECK (substring(uid::text, 15, 1) = '7');
+	ALTER TABLE doc ADD COLUMN IF NOT EXISTS title VARCHAR(80);
+	ALTER TABLE emp ADD COLUMN IF NOT EXISTS id BIGINT NOT NULL;
+	ALTER TABLE emp ADD COLUMN IF NOT EXISTS dept BIGINT;
+	ALTER TABLE team ADD COLUMN IF NOT EXISTS id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY;
+	ALTER TABLE team ADD COLUMN IF NOT EXISTS name VARCHAR(40) NOT NULL;
+	ALTER TABLE member ADD COLUMN IF NOT EXISTS id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY;
+	ALTER TABLE member ADD COLUMN IF NOT EXISTS email VARCHAR(120);
+	ALTER TABLE member ADD COLUMN IF NOT EXISTS team BIGINT;
+	ALTER TABLE member ADD COLUMN IF NOT EXISTS joined_at TIMESTAMP;
+
+	/* --- 3. FOREIGN KEYS --- */
+	DO $$ BEGIN
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_rev_doc' AND conrelid = 'rev'::regclass) THEN
+		ALTER TABLE rev ADD CONSTRAINT fk_rev_doc FOREIGN KEY (doc) REFERENCES doc (uid) ON DELETE NO ACTION;
+	END IF;
+END $$;
+	DO $$ BEGIN
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_emp_dept' AND conrelid = 'emp'::regclass) THEN
+		ALTER TABLE emp ADD CONSTRAINT fk_emp_dept FOREIGN KEY (dept) REFERENCES dept (id) ON DELETE NO ACTION;
+	END IF;
+END $$;
+	DO $$ BEGIN
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_dept_manager' AND conrelid = 'dept'::regclass) THEN
+		ALTER TABLE dept ADD CONSTRAINT fk_dept_manager FOREIGN KEY (manager) REFERENCES emp (id) ON DELETE NO ACTION;
+	END IF;
+END $$;
+	DO $$ BEGIN
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_member_team' AND conrelid = 'member'::regclass) THEN
+		ALTER TABLE member ADD CONSTRAINT fk_member_team FOREIGN KEY (team) REFERENCES team (id) ON DELETE CASCADE;
+	END IF;
+END $$;
+
+	/* --- 4. INDEXES --- */
+	CREATE UNIQUE INDEX IF NOT EXISTS idx_team_name ON team (name);
+	CREATE UNIQUE INDEX IF NOT EXISTS idx_member_email ON member (email);
+	CREATE INDEX IF NOT EXISTS idx_member_team_joined_at ON member (team, joined_at DESC) INCLUDE (email);
@@ -0,0 +1,50 @@
+/* --- 1. TABLES --- */
+	DROP TABLE IF EXISTS member CASCADE;
+	DROP TABLE IF EXISTS team CASCADE;
+	DROP TABLE IF EXISTS dept CASCADE;
+	DROP TABLE IF EXISTS emp CASCADE;
+	DROP TABLE IF EXISTS rev CASCADE;
+	DROP TABLE IF EXISTS doc CASCADE;
+	CREATE TABLE IF NOT EXISTS doc (
+	uid UUID NOT NULL CONSTRAINT uid_v7_chk CHECK (substring(uid::text, 15, 1) = '7'),
+	title VARCHAR(80),
+	PRIMARY KEY (uid)
+);
+	CREATE TABLE IF NOT EXISTS rev (
+	id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+	doc UUID,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_rev_doc FOREIGN KEY (doc) REFERENCES doc (uid) ON DELETE NO ACTION
+);
+	CREATE TABLE IF NOT EXISTS emp (
+	id BIGINT NOT NULL,
+	dept BIGINT,
+	PRIMARY KEY (id)
+);
+	CREATE TABLE IF NOT EXISTS dept (
+	id BIGINT NOT NULL,
+	manager BIGINT,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_dept_manager FOREIGN KEY (manager) REFERENCES emp (id) ON DELETE NO ACTION
+);
+	CREATE TABLE IF NOT EXISTS team (
+	id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+	name VARCHAR(40) NOT NULL,
+	PRIMARY KEY (id)
+);
+	CREATE TABLE IF NOT EXISTS member (
+	id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+	email VARCHAR(120),
+	team BIGINT,
+	joined_at TIMESTAMP,
+	PRIMARY KEY (id),
+	CONSTRAINT fk_member_team FOREIGN KEY (team) REFERENCES team (id) ON DELETE CASCADE
+);
+
+	/* --- 3. FOREIGN KEYS --- */
+	ALTER TABLE emp ADD CONSTRAINT fk_emp_dept FOREIGN KEY (dept) REFERENCES dept (id) ON DELETE NO ACTION;
+
+	/* --- 4. INDEXES --- */
+	CREATE UNIQUE INDEX IF NOT EXISTS idx_team_name ON team (name);
+	CREATE UNIQUE INDEX IF NOT EXISTS idx_member_email ON member (email);
+	CREATE INDEX IF NOT EXISTS idx_member_team_joined_at ON member (team, joined_at DESC) INCLUDE (email);